@@ -0,0 +1,25 @@
+#!/usr/bin/env bash
+# Seed synthetic data or run the HTTP load driver.
+#
+#   scripts/load-test.sh seed [--jdbc-url=... --db-user=... --db-password=... --customers=10000 ...]
+#   scripts/load-test.sh run  [--base-url=... --email=... --concurrency=32 --duration-seconds=60 ...]
+#
+# Options can also be given as environment variables (JDBC_URL, DB_USER, BASE_URL, EMAIL, ...).
+# See DataSeeder and LoadDriver under src/loadtest/java for every option.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+case "${1:-}" in
+    seed) main_class=com.garage.backend.loadtest.DataSeeder ;;
+    run)  main_class=com.garage.backend.loadtest.LoadDriver ;;
+    *)
+        echo "usage: $0 seed|run [--option=value ...]" >&2
+        exit 1
+        ;;
+esac
+shift
+
+exec mvn -B -q -Ploadtest test-compile exec:java \
+    -Dexec.mainClass="$main_class" \
+    -Dexec.args="$*"
@@ -0,0 +1,111 @@
+package com.garage.backend.authentication.service;
+
+import com.garage.backend.authentication.entity.OTPCode;
+import com.garage.backend.authentication.entity.User;
+import com.garage.backend.authentication.repository.OTPRepository;
+import com.garage.backend.shared.benchmark.JpaBenchmarkContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OTP issue and verification throughput of each OtpStore
+ *
+ * store:
+ * - memory: InMemoryOtpStore
+ * - jpa: JpaOtpStore on in-memory H2, in a minimal JPA context
+ *
+ * issueAndVerify saves a code and consumes it, the full life of one OTP.
+ * rejectWrongCode verifies a wrong guess against a live code, the path a
+ * brute-force attempt takes. Every thread works on its own email so the
+ * numbers show store overhead rather than contention on one code.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class OtpStoreThroughputBenchmark {
+
+    private static final String TYPE = "LOGIN_OTP";
+
+    @Param({"memory", "jpa"})
+    private String store;
+
+    private AnnotationConfigApplicationContext context;
+    private OtpStore otpStore;
+    private final AtomicInteger threadIds = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Caller {
+        String email;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp(OtpStoreThroughputBenchmark benchmark) {
+            email = "owner" + benchmark.threadIds.incrementAndGet() + "@garage.example";
+            benchmark.otpStore.save(email, "FORGOT_PASSWORD", "4321", LocalDateTime.now().plusDays(1));
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("memory".equals(store)) {
+            otpStore = new InMemoryOtpStore(100_000);
+            return;
+        }
+        context = JpaBenchmarkContext.start(OtpStoreConfig.class, "otp", ";NON_KEYWORDS=YEAR");
+        otpStore = context.getBean(OtpStore.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public boolean issueAndVerify(Caller caller) {
+        String code = String.valueOf(1000 + (caller.next++ % 9000));
+        otpStore.save(caller.email, TYPE, code, LocalDateTime.now().plusMinutes(2));
+        if (!otpStore.consume(caller.email, TYPE, code)) {
+            throw new IllegalStateException("Fresh code was rejected");
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean rejectWrongCode(Caller caller) {
+        return otpStore.consume(caller.email, "FORGOT_PASSWORD", "0000");
+    }
+
+    @Configuration
+    @EnableJpaRepositories(
+            basePackageClasses = OTPRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = OTPRepository.class))
+    static class OtpStoreConfig {
+
+        @Bean
+        PersistenceManagedTypes managedTypes() {
+            return PersistenceManagedTypes.of(OTPCode.class.getName(), User.class.getName());
+        }
+
+        @Bean
+        OtpStore jpaOtpStore() {
+            return new JpaOtpStore();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.garage.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of the trailing-slash filter, with and without wrapping
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlNormalizationFilterBenchmark {
+
+    private UrlNormalizationFilter filter;
+    private MockHttpServletRequest plainRequest;
+    private MockHttpServletRequest trailingSlashRequest;
+    private MockHttpServletResponse response;
+    private Blackhole blackhole;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        filter = new UrlNormalizationFilter();
+        plainRequest = new MockHttpServletRequest("GET", "/api/admin/customers");
+        plainRequest.setServletPath("/admin/customers");
+        trailingSlashRequest = new MockHttpServletRequest("GET", "/api/admin/customers/");
+        trailingSlashRequest.setServletPath("/admin/customers/");
+        response = new MockHttpServletResponse();
+        // Read what downstream filters and the handler mapping look at
+        chain = (ServletRequest request, ServletResponse ignored) -> {
+            HttpServletRequest httpRequest = (HttpServletRequest) request;
+            this.blackhole.consume(httpRequest.getRequestURI());
+            this.blackhole.consume(httpRequest.getServletPath());
+        };
+    }
+
+    @Benchmark
+    public void passThrough() throws Exception {
+        filter.doFilter(plainRequest, response, chain);
+    }
+
+    @Benchmark
+    public void wrapTrailingSlash() throws Exception {
+        filter.doFilter(trailingSlashRequest, response, chain);
+    }
+}
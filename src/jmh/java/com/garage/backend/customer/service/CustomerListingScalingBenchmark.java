@@ -0,0 +1,176 @@
+package com.garage.backend.customer.service;
+
+import com.garage.backend.address.repository.AddressesRepository;
+import com.garage.backend.authentication.repository.UserRepository;
+import com.garage.backend.customer.dto.CustomerResponse;
+import com.garage.backend.customer.entity.Customers;
+import com.garage.backend.customer.repository.CustomersRepository;
+import com.garage.backend.settings.repository.GarageRepository;
+import com.garage.backend.shared.benchmark.JpaBenchmarkContext;
+import com.garage.backend.snapshot.entity.DailySnapshots;
+import com.garage.backend.snapshot.repository.DailySnapshotsRepository;
+import com.garage.backend.snapshot.service.DailySnapshotService;
+import com.garage.backend.vehicle.entity.Vehicles;
+import com.garage.backend.vehicle.repository.VehiclesRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One page of the customer listing as the customer table grows
+ *
+ * Runs the real CustomerService.getAllCustomers in a minimal JPA context on
+ * in-memory H2: one filtered, paged select, one COUNT and one batched vehicle
+ * lookup per call. Compare the scores across customerCount; the page itself
+ * should cost the same at every size, so any growth comes from the database
+ * scanning for matches and counting them, not from loading customers into
+ * the JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerListingScalingBenchmark {
+
+    private static final String[] NAMES = {"Arjun", "Priya", "Rahul", "Sneha", "Vikram", "Ananya", "Karthik"};
+    private static final String[] MAKES = {"Maruti", "Hyundai", "Tata", "Mahindra", "Honda", "Toyota", "Kia"};
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Param({"1000", "10000", "50000"})
+    private int customerCount;
+
+    private AnnotationConfigApplicationContext context;
+    private CustomerService customerService;
+    private final Pageable firstPage = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start(ListingConfig.class, "customers", ";NON_KEYWORDS=YEAR");
+        customerService = context.getBean(CustomerService.class);
+
+        TransactionTemplate transactions = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        EntityManager entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        try {
+            transactions.executeWithoutResult(status -> {
+                entityManager.joinTransaction();
+                LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+                for (int i = 0; i < customerCount; i++) {
+                    persistCustomer(entityManager, i, start.plusMinutes(i));
+                    if ((i + 1) % FLUSH_EVERY == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+            });
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<CustomerResponse> unfilteredPage() {
+        return customerService.getAllCustomers(firstPage, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public Page<CustomerResponse> nameFilterPage() {
+        return customerService.getAllCustomers(firstPage, "priya", null, null, null, null, null);
+    }
+
+    @Benchmark
+    public Page<CustomerResponse> vehicleMakeFilterPage() {
+        return customerService.getAllCustomers(firstPage, null, null, "honda", null, null, null);
+    }
+
+    @Benchmark
+    public Page<CustomerResponse> combinedFilterPage() {
+        return customerService.getAllCustomers(firstPage, "priya", null, "honda",
+                null, LocalDate.of(2024, 1, 1), null);
+    }
+
+    private static void persistCustomer(EntityManager entityManager, int index, LocalDateTime createdAt) {
+        Customers customer = new Customers(NAMES[index % NAMES.length] + " " + index,
+                String.format("9%09d", index), "customer" + index + "@example.com",
+                "12 MG Road", null, "Bengaluru", "Karnataka");
+        customer.setCreatedAt(createdAt);
+        customer.setUpdatedAt(createdAt);
+        entityManager.persist(customer);
+
+        // 1.5 vehicles per customer, as in the load test data set
+        int vehicles = index % 2 == 0 ? 1 : 2;
+        for (int v = 0; v < vehicles; v++) {
+            Vehicles vehicle = new Vehicles(customer, "KA01" + String.format("%06d", index) + v,
+                    MAKES[(index + v) % MAKES.length], "Model " + v, 2020, null, null, "PETROL", "MANUAL");
+            vehicle.setCreatedAt(createdAt);
+            vehicle.setUpdatedAt(createdAt);
+            entityManager.persist(vehicle);
+        }
+    }
+
+    @Configuration
+    @EnableJpaRepositories(
+            basePackageClasses = {CustomersRepository.class, VehiclesRepository.class, DailySnapshotsRepository.class},
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {CustomersRepository.class, VehiclesRepository.class, DailySnapshotsRepository.class}))
+    static class ListingConfig {
+
+        @Bean
+        PersistenceManagedTypes managedTypes() {
+            return PersistenceManagedTypes.of(Customers.class.getName(), Vehicles.class.getName(),
+                    DailySnapshots.class.getName());
+        }
+
+        @Bean
+        CustomerService customerService() {
+            return new CustomerService();
+        }
+
+        // Only used by the customer write paths, which this benchmark does not call; the snapshot
+        // service is real because its own @Autowired fields would be injected into a mock as well
+
+        @Bean
+        GarageRepository garageRepository() {
+            return Mockito.mock(GarageRepository.class);
+        }
+
+        @Bean
+        UserRepository userRepository() {
+            return Mockito.mock(UserRepository.class);
+        }
+
+        @Bean
+        AddressesRepository addressesRepository() {
+            return Mockito.mock(AddressesRepository.class);
+        }
+
+        @Bean
+        DailySnapshotService dailySnapshotService() {
+            return new DailySnapshotService();
+        }
+    }
+}
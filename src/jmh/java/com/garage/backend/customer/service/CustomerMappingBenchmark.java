@@ -0,0 +1,134 @@
+package com.garage.backend.customer.service;
+
+import com.garage.backend.customer.dto.CustomerResponse;
+import com.garage.backend.customer.entity.Customers;
+import com.garage.backend.customer.repository.CustomersRepository;
+import com.garage.backend.vehicle.entity.Vehicles;
+import com.garage.backend.vehicle.repository.VehiclesRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Entity to DTO conversion for the customer listing
+ *
+ * Measured through getCustomerById with CustomersRepository and
+ * VehiclesRepository stubbed by JDK proxies returning prepared entities, so
+ * the figures are the conversion plus two proxy calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerMappingBenchmark {
+
+    @Param({"0", "2", "10"})
+    private int vehicleCount;
+
+    private CustomerService customerService;
+    private UUID customerId;
+
+    @Setup
+    public void setUp() {
+        Map<Customers, List<Vehicles>> customers = CustomerFixtures.customers(1, vehicleCount);
+        customerService = CustomerFixtures.serviceReturning(customers);
+        customerId = customers.keySet().iterator().next().getId();
+    }
+
+    @Benchmark
+    public CustomerResponse convertToResponse() {
+        return customerService.getCustomerById(customerId);
+    }
+
+    /**
+     * Sample customers and vehicles shared with the serialization benchmark
+     */
+    public static final class CustomerFixtures {
+
+        private CustomerFixtures() {}
+
+        public static Customers customer(int index) {
+            Customers customer = new Customers("Customer " + index, "98765" + String.format("%05d", index),
+                    "customer" + index + "@example.com", "12 MG Road", "Near Metro Station", "Bengaluru", "Karnataka");
+            customer.setId(UUID.randomUUID());
+            customer.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+            customer.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 10, 0));
+            return customer;
+        }
+
+        public static Vehicles vehicle(Customers customer, int index) {
+            Vehicles vehicle = new Vehicles(customer, "KA01AB" + String.format("%04d", index), "Maruti", "Swift",
+                    2020, "VIN" + index, "ENG" + index, "PETROL", "MANUAL");
+            vehicle.setId(UUID.randomUUID());
+            vehicle.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+            return vehicle;
+        }
+
+        public static List<CustomerResponse> responses(int count, int vehiclesPerCustomer) {
+            Map<Customers, List<Vehicles>> customers = customers(count, vehiclesPerCustomer);
+            CustomerService service = serviceReturning(customers);
+            List<CustomerResponse> responses = new ArrayList<>(count);
+            for (Customers customer : customers.keySet()) {
+                responses.add(service.getCustomerById(customer.getId()));
+            }
+            return responses;
+        }
+
+        static Map<Customers, List<Vehicles>> customers(int count, int vehiclesPerCustomer) {
+            Map<Customers, List<Vehicles>> customers = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                Customers customer = customer(i);
+                List<Vehicles> vehicles = new ArrayList<>(vehiclesPerCustomer);
+                for (int v = 0; v < vehiclesPerCustomer; v++) {
+                    vehicles.add(vehicle(customer, v));
+                }
+                customers.put(customer, vehicles);
+            }
+            return customers;
+        }
+
+        /**
+         * Service whose repositories return the given customers and their vehicles by ID
+         */
+        static CustomerService serviceReturning(Map<Customers, List<Vehicles>> customers) {
+            Map<UUID, Customers> byId = new HashMap<>();
+            Map<UUID, List<Vehicles>> vehiclesById = new HashMap<>();
+            customers.forEach((customer, vehicles) -> {
+                byId.put(customer.getId(), customer);
+                vehiclesById.put(customer.getId(), vehicles);
+            });
+            CustomerService service = new CustomerService();
+            ReflectionTestUtils.setField(service, "customersRepository", stub(CustomersRepository.class, "findById",
+                    customerId -> Optional.ofNullable(byId.get(customerId))));
+            ReflectionTestUtils.setField(service, "vehiclesRepository", stub(VehiclesRepository.class, "findByCustomerId",
+                    customerId -> vehiclesById.getOrDefault(customerId, List.of())));
+            return service;
+        }
+
+        /**
+         * Repository answering one single-argument method and rejecting every other call
+         */
+        private static <T> T stub(Class<T> repositoryType, String methodName, Function<Object, Object> answer) {
+            return repositoryType.cast(Proxy.newProxyInstance(repositoryType.getClassLoader(),
+                    new Class<?>[] {repositoryType}, (proxy, method, args) -> {
+                        if (!method.getName().equals(methodName)) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        return answer.apply(args[0]);
+                    }));
+        }
+    }
+}
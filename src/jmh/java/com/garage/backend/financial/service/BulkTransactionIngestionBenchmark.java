@@ -0,0 +1,237 @@
+package com.garage.backend.financial.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.garage.backend.customer.entity.Customers;
+import com.garage.backend.customer.repository.CustomersRepository;
+import com.garage.backend.financial.dto.BulkTransactionResponse;
+import com.garage.backend.financial.dto.CreateExpenseTransactionRequest;
+import com.garage.backend.financial.dto.CreateIncomeTransactionRequest;
+import com.garage.backend.financial.entity.Transactions;
+import com.garage.backend.financial.repository.DailyFinancialSummaryRepository;
+import com.garage.backend.financial.repository.FinancialTotalsRepository;
+import com.garage.backend.financial.repository.TransactionsRepository;
+import com.garage.backend.jobcard.entity.JobCards;
+import com.garage.backend.jobcard.repository.JobCardsRepository;
+import com.garage.backend.shared.benchmark.JpaBenchmarkContext;
+import com.garage.backend.shared.enums.Enums;
+import com.garage.backend.snapshot.repository.DailySnapshotsRepository;
+import com.garage.backend.snapshot.service.DailySnapshotService;
+import com.garage.backend.staff.entity.Staff;
+import com.garage.backend.staff.repository.StaffRepository;
+import com.garage.backend.vehicle.entity.Vehicles;
+import com.garage.backend.vehicle.repository.VehiclesRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second imported through the bulk transaction endpoints
+ *
+ * Runs the real FinancialTransactionService in a minimal JPA context on
+ * in-memory H2, with the application's JDBC batching settings. Each
+ * invocation imports rowCount rows that reference existing customers,
+ * vehicles and job cards.
+ *
+ * ingestion:
+ * - per-row: createIncomeTransaction / createExpenseTransaction once per row,
+ *   each in its own transaction, as a client calling the single-row
+ *   endpoint does
+ * - bulk: createIncomeTransactions / createExpenseTransactions with the whole
+ *   list
+ *
+ * The "rows" secondary result is rows imported per second. The per-day
+ * summary and snapshot upserts use PostgreSQL's ON CONFLICT and are stubbed
+ * out; the bulk path issues one of each per day and chunk, the per-row path
+ * one of each per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkTransactionIngestionBenchmark {
+
+    private static final int REFERENCED_CUSTOMERS = 200;
+
+    @Param({"per-row", "bulk"})
+    private String ingestion;
+
+    @Param({"1000"})
+    private int rowCount;
+
+    private AnnotationConfigApplicationContext context;
+    private FinancialTransactionService financialTransactionService;
+    private List<CreateIncomeTransactionRequest> incomeRows;
+    private List<CreateExpenseTransactionRequest> expenseRows;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class RowCounters {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start(IngestionConfig.class, "bulk", ";NON_KEYWORDS=YEAR");
+        financialTransactionService = context.getBean(FinancialTransactionService.class);
+
+        List<UUID[]> references = new ArrayList<>(REFERENCED_CUSTOMERS);
+        TransactionTemplate transactions = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        EntityManager entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        try {
+            transactions.executeWithoutResult(status -> {
+                entityManager.joinTransaction();
+                for (int i = 0; i < REFERENCED_CUSTOMERS; i++) {
+                    references.add(persistCustomer(entityManager, i));
+                }
+            });
+        } finally {
+            entityManager.close();
+        }
+
+        incomeRows = new ArrayList<>(rowCount);
+        expenseRows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            UUID[] reference = references.get(i % references.size());
+            incomeRows.add(new CreateIncomeTransactionRequest(new BigDecimal("1850.00"), "POS sale " + i,
+                    reference[0], reference[1], reference[2], Enums.PaymentMethod.UPI, "POS-" + i, null));
+            expenseRows.add(new CreateExpenseTransactionRequest(new BigDecimal("420.00"), "Bank debit " + i,
+                    Enums.ExpenseCategory.UTILITIES, "BESCOM", null, "STMT-" + i, null));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object incomeRows(RowCounters counters) {
+        Object result;
+        if ("bulk".equals(ingestion)) {
+            result = checkCreated(financialTransactionService.createIncomeTransactions(incomeRows.iterator()));
+        } else {
+            for (CreateIncomeTransactionRequest row : incomeRows) {
+                financialTransactionService.createIncomeTransaction(row);
+            }
+            result = incomeRows;
+        }
+        counters.rows += rowCount;
+        return result;
+    }
+
+    @Benchmark
+    public Object expenseRows(RowCounters counters) {
+        Object result;
+        if ("bulk".equals(ingestion)) {
+            result = checkCreated(financialTransactionService.createExpenseTransactions(expenseRows.iterator()));
+        } else {
+            for (CreateExpenseTransactionRequest row : expenseRows) {
+                financialTransactionService.createExpenseTransaction(row);
+            }
+            result = expenseRows;
+        }
+        counters.rows += rowCount;
+        return result;
+    }
+
+    private BulkTransactionResponse checkCreated(BulkTransactionResponse response) {
+        if (response.getCreated() != rowCount) {
+            throw new IllegalStateException("Expected " + rowCount + " rows created, got " + response.getCreated()
+                    + " (" + response.getRejected() + " rejected)");
+        }
+        return response;
+    }
+
+    private static UUID[] persistCustomer(EntityManager entityManager, int index) {
+        Customers customer = new Customers("Customer " + index, String.format("9%09d", index),
+                null, null, null, "Bengaluru", "Karnataka");
+        entityManager.persist(customer);
+        Vehicles vehicle = new Vehicles(customer, "KA01" + String.format("%06d", index), "Honda", "City",
+                2020, null, null, "PETROL", "MANUAL");
+        entityManager.persist(vehicle);
+        JobCards jobCard = new JobCards(customer, vehicle, "JOB-" + index, "Periodic service",
+                new BigDecimal("1850.00"), null);
+        entityManager.persist(jobCard);
+        return new UUID[] {customer.getId(), vehicle.getId(), jobCard.getId()};
+    }
+
+    @Configuration
+    @EnableJpaAuditing
+    @EnableJpaRepositories(
+            basePackageClasses = {TransactionsRepository.class, CustomersRepository.class, VehiclesRepository.class,
+                    JobCardsRepository.class, StaffRepository.class},
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {TransactionsRepository.class, CustomersRepository.class, VehiclesRepository.class,
+                            JobCardsRepository.class, StaffRepository.class}))
+    static class IngestionConfig {
+
+        @Bean
+        PersistenceManagedTypes managedTypes() {
+            return PersistenceManagedTypes.of(Transactions.class.getName(),
+                    Customers.class.getName(), Vehicles.class.getName(), JobCards.class.getName(),
+                    Staff.class.getName());
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        FinancialTransactionService financialTransactionService() {
+            return new FinancialTransactionService();
+        }
+
+        @Bean
+        DailyFinancialSummaryService dailyFinancialSummaryService() {
+            return new DailyFinancialSummaryService();
+        }
+
+        @Bean
+        DailySnapshotService dailySnapshotService() {
+            return new DailySnapshotService();
+        }
+
+        // The upserts are PostgreSQL-only (ON CONFLICT ... DO UPDATE), which H2 does not support
+
+        @Bean
+        DailyFinancialSummaryRepository dailyFinancialSummaryRepository() {
+            return Mockito.mock(DailyFinancialSummaryRepository.class);
+        }
+
+        @Bean
+        FinancialTotalsRepository financialTotalsRepository() {
+            return Mockito.mock(FinancialTotalsRepository.class);
+        }
+
+        @Bean
+        DailySnapshotsRepository dailySnapshotsRepository() {
+            return Mockito.mock(DailySnapshotsRepository.class);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.garage.backend.financial.service;
+
+import com.garage.backend.financial.dto.FinancialTransactionResponse;
+import com.garage.backend.financial.dto.FinancialTransactionRow;
+import com.garage.backend.financial.repository.TransactionsRepository;
+import com.garage.backend.shared.enums.Enums;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Projection row to DTO mapping used by the transaction listing and today endpoints
+ *
+ * Measured through getTodayTransactions with TransactionsRepository stubbed by
+ * a JDK proxy returning one prepared row, so the figures are the mapping plus
+ * one proxy call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FinancialMappingBenchmark {
+
+    private FinancialTransactionService financialTransactionService;
+
+    @Setup
+    public void setUp() {
+        financialTransactionService = TransactionFixtures.serviceReturning(
+                List.of(TransactionFixtures.incomeRow(0)), List.of(TransactionFixtures.expenseRow(0)));
+    }
+
+    @Benchmark
+    public List<FinancialTransactionResponse> mapIncomeWithAllSummaries() {
+        return financialTransactionService.getTodayTransactions("INCOME");
+    }
+
+    @Benchmark
+    public List<FinancialTransactionResponse> mapExpenseWithoutSummaries() {
+        return financialTransactionService.getTodayTransactions("EXPENSE");
+    }
+
+    /**
+     * Sample projection rows shared with the serialization benchmark
+     */
+    public static final class TransactionFixtures {
+
+        private TransactionFixtures() {}
+
+        public static FinancialTransactionRow incomeRow(int index) {
+            LocalDateTime date = LocalDateTime.of(2024, 6, 1, 10, 30).plusMinutes(index);
+            return new FinancialTransactionRow(UUID.randomUUID(), new BigDecimal("2450.00"), Enums.TransactionType.INCOME,
+                    date, date.toLocalDate(), "Periodic service", "COMPLETED", "REF-" + index, "Paid at counter",
+                    date, Enums.PaymentMethod.UPI, null, null, null,
+                    UUID.randomUUID(), "Customer " + index, "9876500000",
+                    UUID.randomUUID(), "KA01AB1234", "Maruti", "Swift",
+                    UUID.randomUUID(), "JC-" + index, "COMPLETED",
+                    UUID.randomUUID(), "Ravi", "Kumar", Enums.StaffRole.MANAGER);
+        }
+
+        public static FinancialTransactionRow expenseRow(int index) {
+            LocalDateTime date = LocalDateTime.of(2024, 6, 1, 12, 0).plusMinutes(index);
+            return new FinancialTransactionRow(UUID.randomUUID(), new BigDecimal("799.50"), Enums.TransactionType.EXPENSE,
+                    date, LocalDate.from(date), "Workshop supplies", "COMPLETED", null, null,
+                    date, null, Enums.ExpenseCategory.SUPPLIES, "City Auto Parts", "080-4000000",
+                    null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+        }
+
+        public static List<FinancialTransactionResponse> responses(int count) {
+            List<FinancialTransactionRow> rows = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                rows.add(i % 3 == 2 ? expenseRow(i) : incomeRow(i));
+            }
+            return serviceReturning(rows, List.of()).getTodayTransactions("INCOME");
+        }
+
+        /**
+         * Service whose repository returns the given rows as today's income and expenses
+         */
+        static FinancialTransactionService serviceReturning(List<FinancialTransactionRow> incomeRows,
+                                                            List<FinancialTransactionRow> expenseRows) {
+            TransactionsRepository repository = (TransactionsRepository) Proxy.newProxyInstance(
+                    TransactionsRepository.class.getClassLoader(), new Class<?>[] {TransactionsRepository.class},
+                    (proxy, method, args) -> {
+                        if (!method.getName().equals("findRowsByTransactionTypeAndToday")) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        return args[0] == Enums.TransactionType.INCOME ? incomeRows : expenseRows;
+                    });
+            FinancialTransactionService service = new FinancialTransactionService();
+            ReflectionTestUtils.setField(service, "transactionsRepository", repository);
+            return service;
+        }
+    }
+}
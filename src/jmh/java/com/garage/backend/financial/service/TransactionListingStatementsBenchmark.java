@@ -0,0 +1,194 @@
+package com.garage.backend.financial.service;
+
+import com.garage.backend.customer.entity.Customers;
+import com.garage.backend.financial.dto.FinancialTransactionResponse;
+import com.garage.backend.financial.entity.Transactions;
+import com.garage.backend.financial.repository.TransactionsRepository;
+import com.garage.backend.jobcard.entity.JobCards;
+import com.garage.backend.shared.benchmark.JpaBenchmarkContext;
+import com.garage.backend.shared.enums.Enums;
+import com.garage.backend.shared.metrics.StatementCountingInspector;
+import com.garage.backend.staff.entity.Staff;
+import com.garage.backend.vehicle.entity.Vehicles;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One page of the transaction listing, read as entities versus through the joined projection
+ *
+ * entityPage is the path before the projection: findWithFilters loads
+ * Transactions and the response summaries touch the lazy customer, vehicle,
+ * job card and creator of every row. projectionPage calls getTransactions,
+ * which reads the same summaries through findRowsWithFilters' joins in one
+ * statement. Both return the same unfiltered page of pageSize income rows, each
+ * referencing a different customer, vehicle and job card. Runs in a minimal
+ * JPA context on in-memory H2.
+ *
+ * The "statements" and "pages" secondary results are totals for the
+ * iteration; their ratio is the SQL statements per page, counted by
+ * StatementCountingInspector.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionListingStatementsBenchmark {
+
+    private static final int TRANSACTIONS = 500;
+    private static final int STAFF = 5;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private AnnotationConfigApplicationContext context;
+    private TransactionsRepository transactionsRepository;
+    private TransactionTemplate readOnly;
+    private FinancialTransactionService financialTransactionService;
+    private Pageable page;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class StatementCounters {
+        public long statements;
+        public long pages;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start(ListingConfig.class, "transactions", ";NON_KEYWORDS=YEAR");
+        transactionsRepository = context.getBean(TransactionsRepository.class);
+        financialTransactionService = new FinancialTransactionService();
+        ReflectionTestUtils.setField(financialTransactionService, "transactionsRepository", transactionsRepository);
+        page = PageRequest.of(0, pageSize);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        EntityManager entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                entityManager.joinTransaction();
+                seed(entityManager);
+            });
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<FinancialTransactionResponse> entityPage(StatementCounters counters) {
+        long before = StatementCountingInspector.currentCount();
+        Page<FinancialTransactionResponse> result = readOnly.execute(status -> transactionsRepository
+                .findWithFilters(null, null, null, null, null, null, page)
+                .map(TransactionListingStatementsBenchmark::entityResponse));
+        counters.statements += StatementCountingInspector.currentCount() - before;
+        counters.pages++;
+        return result;
+    }
+
+    @Benchmark
+    public Page<FinancialTransactionResponse> projectionPage(StatementCounters counters) {
+        long before = StatementCountingInspector.currentCount();
+        Page<FinancialTransactionResponse> result = readOnly.execute(status -> financialTransactionService
+                .getTransactions(null, null, null, null, null, null, 0, pageSize));
+        counters.statements += StatementCountingInspector.currentCount() - before;
+        counters.pages++;
+        return result;
+    }
+
+    /**
+     * Response with the summaries the entity mapping built, each one a lazy association
+     */
+    private static FinancialTransactionResponse entityResponse(Transactions transaction) {
+        FinancialTransactionResponse response = new FinancialTransactionResponse();
+        response.setId(transaction.getId());
+        response.setAmount(transaction.getAmount());
+        response.setCustomer(new FinancialTransactionResponse.CustomerSummary(transaction.getCustomer().getId(),
+                transaction.getCustomer().getName(), transaction.getCustomer().getPhone()));
+        response.setVehicle(new FinancialTransactionResponse.VehicleSummary(transaction.getVehicle().getId(),
+                transaction.getVehicle().getRegistrationNumber(), transaction.getVehicle().getMake(),
+                transaction.getVehicle().getModel()));
+        response.setJobCard(new FinancialTransactionResponse.JobCardSummary(transaction.getJobCard().getId(),
+                transaction.getJobCard().getJobNumber(), transaction.getJobCard().getStatus()));
+        Staff creator = transaction.getCreatedBy();
+        response.setCreatedBy(new FinancialTransactionResponse.StaffSummary(creator.getId(),
+                creator.getFirstName() + " " + creator.getLastName(), creator.getRole().toString()));
+        return response;
+    }
+
+    private static void seed(EntityManager entityManager) {
+        Staff[] staff = new Staff[STAFF];
+        for (int s = 0; s < STAFF; s++) {
+            staff[s] = new Staff(UUID.randomUUID(), "Staff", String.valueOf(s), "98000000" + String.format("%02d", s),
+                    null, Enums.StaffRole.MECHANIC);
+            entityManager.persist(staff[s]);
+        }
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            Customers customer = new Customers("Customer " + i, String.format("9%09d", i),
+                    null, null, null, "Bengaluru", "Karnataka");
+            entityManager.persist(customer);
+            Vehicles vehicle = new Vehicles(customer, "KA01" + String.format("%06d", i), "Honda", "City",
+                    2020, null, null, "PETROL", "MANUAL");
+            entityManager.persist(vehicle);
+            JobCards jobCard = new JobCards(customer, vehicle, "JOB-" + i, "Periodic service",
+                    new BigDecimal("2450.00"), staff[i % STAFF]);
+            entityManager.persist(jobCard);
+
+            Transactions transaction = new Transactions(new BigDecimal("2450.00"), "Periodic service", customer,
+                    vehicle, jobCard, Enums.PaymentMethod.UPI, "REF-" + i);
+            transaction.setTransactionDate(transaction.getTransactionDate().minusMinutes(i));
+            transaction.setCreatedBy(staff[i % STAFF]);
+            entityManager.persist(transaction);
+            if ((i + 1) % 100 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                for (int s = 0; s < STAFF; s++) {
+                    staff[s] = entityManager.getReference(Staff.class, staff[s].getId());
+                }
+            }
+        }
+    }
+
+    @Configuration
+    @EnableJpaAuditing
+    @EnableJpaRepositories(
+            basePackageClasses = TransactionsRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = TransactionsRepository.class))
+    static class ListingConfig {
+
+        @Bean
+        PersistenceManagedTypes managedTypes() {
+            return PersistenceManagedTypes.of(Transactions.class.getName(),
+                    Customers.class.getName(), Vehicles.class.getName(), JobCards.class.getName(),
+                    Staff.class.getName());
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.garage.backend.inventory.service;
+
+import com.garage.backend.branch.entity.Branch;
+import com.garage.backend.branch.repository.BranchRepository;
+import com.garage.backend.inventory.dto.TransferBatchRequest;
+import com.garage.backend.inventory.dto.TransferLineRequest;
+import com.garage.backend.inventory.entity.Inventory;
+import com.garage.backend.inventory.entity.InventoryAdjustments;
+import com.garage.backend.inventory.entity.InventoryTransfer;
+import com.garage.backend.inventory.entity.ProductInventory;
+import com.garage.backend.inventory.repository.InventoryAdjustmentsRepository;
+import com.garage.backend.inventory.repository.InventoryRepository;
+import com.garage.backend.inventory.repository.InventoryTransferRepository;
+import com.garage.backend.inventory.repository.ProductInventoryRepository;
+import com.garage.backend.notification.entity.Notifications;
+import com.garage.backend.notification.repository.NotificationsRepository;
+import com.garage.backend.shared.benchmark.JpaBenchmarkContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Large transfer batches running concurrently in both directions between two branches
+ *
+ * Runs the real InventoryTransferService in a minimal JPA context on in-memory
+ * H2. Every batch carries one unit of every item pair, so each A -> B batch
+ * and each B -> A batch lock exactly the same stock rows: the worst case for
+ * lock ordering. The score is completed batches per second; multiply by
+ * lineCount for lines per second.
+ *
+ * The trial fails (IllegalStateException at teardown) if stock was created or
+ * lost (each item pair must still hold twice the initial stock), if the
+ * number of ledger entries does not match the completed lines, or if any
+ * batch failed (a deadlock would surface here as a lock timeout).
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InventoryTransferBatchBenchmark {
+
+    private static final int POOL_SIZE = 16;
+    private static final int INITIAL_STOCK = 1_000_000;
+
+    @Param({"50", "300"})
+    private int lineCount;
+
+    private AnnotationConfigApplicationContext context;
+    private InventoryTransferService inventoryTransferService;
+    private UUID branchA;
+    private UUID branchB;
+    private UUID[] itemsA;
+    private UUID[] itemsB;
+    private TransferBatchRequest aToB;
+    private TransferBatchRequest bToA;
+    private UUID staffId;
+    private final AtomicLong completedBatches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start(TransferConfig.class, "transfer", ";LOCK_TIMEOUT=30000", POOL_SIZE);
+        inventoryTransferService = context.getBean(InventoryTransferService.class);
+
+        staffId = UUID.randomUUID();
+        branchA = UUID.randomUUID();
+        branchB = UUID.randomUUID();
+        itemsA = new UUID[lineCount];
+        itemsB = new UUID[lineCount];
+        TransactionTemplate transactions = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        EntityManager entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        try {
+            transactions.executeWithoutResult(status -> {
+                entityManager.joinTransaction();
+                for (int i = 0; i < lineCount; i++) {
+                    itemsA[i] = persistItem(entityManager, "A-" + i, branchA);
+                    itemsB[i] = persistItem(entityManager, "B-" + i, branchB);
+                }
+            });
+        } finally {
+            entityManager.close();
+        }
+        aToB = request(branchA, branchB, itemsA, itemsB);
+        bToA = request(branchB, branchA, itemsB, itemsA);
+    }
+
+    @Benchmark
+    @Group("bidirectional")
+    @GroupThreads(2)
+    public void transferAToB() {
+        transfer(aToB);
+    }
+
+    @Benchmark
+    @Group("bidirectional")
+    @GroupThreads(2)
+    public void transferBToA() {
+        transfer(bToA);
+    }
+
+    private void transfer(TransferBatchRequest request) {
+        try {
+            inventoryTransferService.createBatch(request, staffId);
+            completedBatches.incrementAndGet();
+        } catch (RuntimeException e) {
+            failedBatches.incrementAndGet();
+            throw e;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void verifyStockConserved() {
+        try {
+            if (failedBatches.get() > 0) {
+                throw new IllegalStateException(failedBatches.get() + " transfer batches failed");
+            }
+            ProductInventoryRepository stock = context.getBean(ProductInventoryRepository.class);
+            for (int i = 0; i < lineCount; i++) {
+                int a = stock.findByInventoryId(itemsA[i]).orElseThrow().getQuantity();
+                int b = stock.findByInventoryId(itemsB[i]).orElseThrow().getQuantity();
+                if (a + b != 2 * INITIAL_STOCK) {
+                    throw new IllegalStateException("Stock not conserved for item pair " + i + ": " + a + " + " + b);
+                }
+            }
+            long ledgerEntries = context.getBean(InventoryAdjustmentsRepository.class).count();
+            long expectedEntries = 2 * completedBatches.get() * lineCount;
+            if (ledgerEntries != expectedEntries) {
+                throw new IllegalStateException("Ledger has " + ledgerEntries + " entries, expected " + expectedEntries);
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static UUID persistItem(EntityManager entityManager, String code, UUID branchId) {
+        Inventory item = new Inventory();
+        item.setItemCode("SKU-" + code);
+        item.setItemName("Brake pad set " + code);
+        item.setUnit("PCS");
+        item.setCostPrice(new BigDecimal("850.00"));
+        item.setSellingPrice(new BigDecimal("1200.00"));
+        item.setBranchId(branchId);
+        entityManager.persist(item);
+        entityManager.persist(new ProductInventory(item.getId(), INITIAL_STOCK, 0));
+        return item.getId();
+    }
+
+    private static TransferBatchRequest request(UUID from, UUID to, UUID[] sources, UUID[] destinations) {
+        List<TransferLineRequest> lines = new ArrayList<>(sources.length);
+        for (int i = 0; i < sources.length; i++) {
+            lines.add(new TransferLineRequest(sources[i], destinations[i], 1));
+        }
+        TransferBatchRequest request = new TransferBatchRequest(from, to, lines);
+        request.setCompleteImmediately(true);
+        return request;
+    }
+
+    @Configuration
+    @EnableJpaAuditing
+    @EnableJpaRepositories(
+            basePackageClasses = {ProductInventoryRepository.class, BranchRepository.class, NotificationsRepository.class},
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {ProductInventoryRepository.class, InventoryAdjustmentsRepository.class,
+                            InventoryRepository.class, InventoryTransferRepository.class,
+                            BranchRepository.class, NotificationsRepository.class}))
+    static class TransferConfig {
+
+        @Bean
+        PersistenceManagedTypes managedTypes() {
+            return PersistenceManagedTypes.of(Inventory.class.getName(),
+                    ProductInventory.class.getName(), InventoryAdjustments.class.getName(),
+                    InventoryTransfer.class.getName(), Branch.class.getName(), Notifications.class.getName());
+        }
+
+        @Bean
+        LowStockAlertService lowStockAlertService() {
+            return new LowStockAlertService();
+        }
+
+        @Bean
+        InventoryTransferService inventoryTransferService() {
+            return new InventoryTransferService();
+        }
+    }
+}
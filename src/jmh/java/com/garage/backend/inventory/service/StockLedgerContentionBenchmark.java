@@ -0,0 +1,181 @@
+package com.garage.backend.inventory.service;
+
+import com.garage.backend.branch.entity.Branch;
+import com.garage.backend.branch.repository.BranchRepository;
+import com.garage.backend.inventory.entity.Inventory;
+import com.garage.backend.inventory.entity.InventoryAdjustments;
+import com.garage.backend.inventory.entity.ProductInventory;
+import com.garage.backend.inventory.repository.InventoryAdjustmentsRepository;
+import com.garage.backend.inventory.repository.InventoryRepository;
+import com.garage.backend.inventory.repository.ProductInventoryRepository;
+import com.garage.backend.notification.entity.Notifications;
+import com.garage.backend.notification.repository.NotificationsRepository;
+import com.garage.backend.shared.benchmark.JpaBenchmarkContext;
+import com.garage.backend.shared.enums.Enums.InventoryAdjustmentType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent reserve + consume against a handful of hot SKUs
+ *
+ * Runs the real StockLedgerService and repositories in a minimal JPA context on
+ * in-memory H2, so the conditional updates contend on real row locks. With
+ * skuCount = 1 every thread fights over a single row and the reported
+ * "consumed" rate is the per-SKU throughput; divide by skuCount otherwise.
+ * The scarce stockPerSku value runs the items dry mid-measurement so the
+ * rejection path is exercised too.
+ *
+ * The trial fails (IllegalStateException at teardown) if any SKU was oversold:
+ * negative or leftover reserved stock, an on-hand quantity that does not equal
+ * the initial stock minus successful consumptions, or a ledger that disagrees
+ * with the stock row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class StockLedgerContentionBenchmark {
+
+    private static final int POOL_SIZE = 16;
+
+    @Param({"1", "8"})
+    private int skuCount;
+
+    @Param({"500", "1000000"})
+    private int stockPerSku;
+
+    private AnnotationConfigApplicationContext context;
+    private StockLedgerService stockLedgerService;
+    private UUID[] skus;
+    private AtomicLongArray consumed;
+    private UUID staffId;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Outcome {
+        public long consumed;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            consumed = 0;
+            rejected = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start(LedgerConfig.class, "stock", ";LOCK_TIMEOUT=30000", POOL_SIZE);
+        stockLedgerService = context.getBean(StockLedgerService.class);
+
+        staffId = UUID.randomUUID();
+        skus = new UUID[skuCount];
+        consumed = new AtomicLongArray(skuCount);
+        TransactionTemplate transactions = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        EntityManager entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        try {
+            transactions.executeWithoutResult(status -> {
+                entityManager.joinTransaction();
+                UUID branchId = UUID.randomUUID();
+                for (int i = 0; i < skuCount; i++) {
+                    Inventory item = new Inventory();
+                    item.setItemCode("SKU-" + i);
+                    item.setItemName("Brake pad set " + i);
+                    item.setUnit("PCS");
+                    item.setCostPrice(new BigDecimal("850.00"));
+                    item.setSellingPrice(new BigDecimal("1200.00"));
+                    item.setBranchId(branchId);
+                    entityManager.persist(item);
+                    entityManager.persist(new ProductInventory(item.getId(), stockPerSku, 0));
+                    skus[i] = item.getId();
+                }
+            });
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public void reserveThenConsume(Outcome outcome) {
+        int index = skuCount == 1 ? 0 : ThreadLocalRandom.current().nextInt(skuCount);
+        UUID sku = skus[index];
+        try {
+            stockLedgerService.reserve(sku, 1, "Job card reservation", null, staffId);
+        } catch (InsufficientStockException e) {
+            outcome.rejected++;
+            return;
+        }
+        stockLedgerService.consume(sku, 1, "Fitted on job card", null, staffId);
+        consumed.incrementAndGet(index);
+        outcome.consumed++;
+    }
+
+    @TearDown(Level.Trial)
+    public void verifyNoOversell() {
+        try {
+            ProductInventoryRepository stock = context.getBean(ProductInventoryRepository.class);
+            InventoryAdjustmentsRepository ledger = context.getBean(InventoryAdjustmentsRepository.class);
+            for (int i = 0; i < skuCount; i++) {
+                ProductInventory row = stock.findByInventoryId(skus[i]).orElseThrow();
+                long expectedQuantity = stockPerSku - consumed.get(i);
+                long consumeEntries = ledger.findByInventoryIdAndAdjustmentType(
+                        skus[i], InventoryAdjustmentType.CONSUME.name()).size();
+                if (row.getQuantity() < 0 || row.getReservedQuantity() != 0
+                        || row.getQuantity() != expectedQuantity || consumeEntries != consumed.get(i)) {
+                    throw new IllegalStateException("Stock ledger inconsistent for SKU-" + i
+                            + ": quantity=" + row.getQuantity() + " reserved=" + row.getReservedQuantity()
+                            + " expectedQuantity=" + expectedQuantity + " consumeEntries=" + consumeEntries);
+                }
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    @Configuration
+    @EnableJpaAuditing
+    @EnableJpaRepositories(
+            basePackageClasses = {ProductInventoryRepository.class, BranchRepository.class, NotificationsRepository.class},
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {ProductInventoryRepository.class, InventoryAdjustmentsRepository.class,
+                            InventoryRepository.class, BranchRepository.class, NotificationsRepository.class}))
+    static class LedgerConfig {
+
+        @Bean
+        PersistenceManagedTypes managedTypes() {
+            return PersistenceManagedTypes.of(Inventory.class.getName(),
+                    ProductInventory.class.getName(), InventoryAdjustments.class.getName(),
+                    Branch.class.getName(), Notifications.class.getName());
+        }
+
+        @Bean
+        LowStockAlertService lowStockAlertService() {
+            return new LowStockAlertService();
+        }
+
+        @Bean
+        StockLedgerService stockLedgerService() {
+            return new StockLedgerService();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.garage.backend.shared.benchmark;
+
+import com.garage.backend.shared.metrics.StatementCountingInspector;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Minimal JPA context on a fresh in-memory H2 database, shared by the benchmarks that touch the database
+ *
+ * Provides the data source, entity manager factory and transaction manager,
+ * with the batching, statement ordering and statement inspector of
+ * application.yml. The benchmark's own @Configuration declares the rest: a
+ * PersistenceManagedTypes bean listing its entities, @EnableJpaRepositories
+ * for its repositories (plus @EnableJpaAuditing where its entities are
+ * audited) and its service beans. The schema is created by Hibernate.
+ */
+public final class JpaBenchmarkContext {
+
+    private static final String JDBC_URL = "benchmark.jdbc-url";
+    private static final String POOL_SIZE = "benchmark.pool-size";
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private JpaBenchmarkContext() {}
+
+    /**
+     * Start a context with the default connection pool size
+     * @param config the benchmark's configuration
+     * @param databaseName prefix of the in-memory database name
+     * @param h2Settings extra H2 URL settings, each starting with ';', or ""
+     * @return AnnotationConfigApplicationContext, to be closed by the caller
+     */
+    public static AnnotationConfigApplicationContext start(Class<?> config, String databaseName, String h2Settings) {
+        return start(config, databaseName, h2Settings, DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Start a context
+     * @param config the benchmark's configuration
+     * @param databaseName prefix of the in-memory database name
+     * @param h2Settings extra H2 URL settings, each starting with ';', or ""
+     * @param poolSize maximum number of pooled connections
+     * @return AnnotationConfigApplicationContext, to be closed by the caller
+     */
+    public static AnnotationConfigApplicationContext start(Class<?> config, String databaseName, String h2Settings,
+                                                           int poolSize) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JDBC_URL, "jdbc:h2:mem:" + databaseName + "-" + UUID.randomUUID()
+                + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL" + h2Settings);
+        properties.put(POOL_SIZE, poolSize);
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+        context.register(JpaConfig.class, config);
+        context.refresh();
+        return context;
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class JpaConfig {
+
+        @Bean(destroyMethod = "close")
+        HikariDataSource dataSource(PropertyResolver environment) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(environment.getRequiredProperty(JDBC_URL));
+            dataSource.setMaximumPoolSize(environment.getRequiredProperty(POOL_SIZE, Integer.class));
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                    PersistenceManagedTypes managedTypes,
+                                                                    ConfigurableListableBeanFactory beanFactory) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setManagedTypes(managedTypes);
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            Map<String, Object> jpaProperties = new HashMap<>();
+            jpaProperties.put(AvailableSettings.HBM2DDL_AUTO, "create");
+            jpaProperties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
+            jpaProperties.put(AvailableSettings.STATEMENT_BATCH_SIZE, 50);
+            jpaProperties.put(AvailableSettings.ORDER_INSERTS, true);
+            jpaProperties.put(AvailableSettings.ORDER_UPDATES, true);
+            jpaProperties.put(AvailableSettings.STATEMENT_INSPECTOR, StatementCountingInspector.class.getName());
+            factory.setJpaPropertyMap(jpaProperties);
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.garage.backend.shared.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.garage.backend.customer.dto.CustomerResponse;
+import com.garage.backend.customer.service.CustomerMappingBenchmark.CustomerFixtures;
+import com.garage.backend.financial.dto.FinancialTransactionResponse;
+import com.garage.backend.financial.service.FinancialMappingBenchmark.TransactionFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of listing pages, using the same ObjectMapper defaults Spring Boot applies
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<CustomerResponse> customerPage;
+    private Page<FinancialTransactionResponse> transactionPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        PageRequest pageRequest = PageRequest.of(0, pageSize);
+        customerPage = new PageImpl<>(CustomerFixtures.responses(pageSize, 2),
+                pageRequest, 10_000);
+        transactionPage = new PageImpl<>(TransactionFixtures.responses(pageSize),
+                pageRequest, 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializeCustomerPage() throws Exception {
+        return objectMapper.writeValueAsBytes(customerPage);
+    }
+
+    @Benchmark
+    public byte[] serializeTransactionPage() throws Exception {
+        return objectMapper.writeValueAsBytes(transactionPage);
+    }
+}
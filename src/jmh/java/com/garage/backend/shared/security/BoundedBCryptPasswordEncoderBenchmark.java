@@ -0,0 +1,52 @@
+package com.garage.backend.shared.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of hashing and checking a password at each BCrypt strength
+ *
+ * Runs through BoundedBCryptPasswordEncoder, so the figures include the hand-off
+ * to the hashing pool. Each step up in strength doubles the work; pick the
+ * highest strength whose matches time the login path can afford.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoundedBCryptPasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "Garage@2024";
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private BoundedBCryptPasswordEncoder encoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        encoder = new BoundedBCryptPasswordEncoder(strength, threads, threads * 4, new SimpleMeterRegistry());
+        encodedPassword = encoder.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encoder.destroy();
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, encodedPassword);
+    }
+}
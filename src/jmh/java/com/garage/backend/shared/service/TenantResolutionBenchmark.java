@@ -0,0 +1,141 @@
+package com.garage.backend.shared.service;
+
+import com.garage.backend.authentication.entity.OTPCode;
+import com.garage.backend.authentication.entity.User;
+import com.garage.backend.authentication.repository.UserRepository;
+import com.garage.backend.settings.entity.Garage;
+import com.garage.backend.settings.repository.GarageRepository;
+import com.garage.backend.shared.benchmark.JpaBenchmarkContext;
+import com.garage.backend.shared.metrics.StatementCountingInspector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tenant lookups made by one request that resolves the tenant several times
+ *
+ * Each invocation is one simulated request: a fresh request scope and an
+ * authenticated user, then the GarageContextService calls that
+ * OnboardingService.getOnboardingStatus and a StaffService write make
+ * (user ID, garage, garage ID twice). Runs the real repositories in a
+ * minimal JPA context on in-memory H2.
+ *
+ * tenantResolution:
+ * - per-call: no request scope, so every call queries (the behaviour before
+ *   TenantContext)
+ * - request-scoped: lookups memoized for the request, token without claims
+ * - jwt-claims: uid/gid copied from the token as JwtAuthenticationFilter does
+ *
+ * The "statements" and "requests" secondary results are totals for the
+ * iteration; their ratio is the SQL statements per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TenantResolutionBenchmark {
+
+    private static final String EMAIL = "owner@example.com";
+
+    @Param({"per-call", "request-scoped", "jwt-claims"})
+    private String tenantResolution;
+
+    private AnnotationConfigApplicationContext context;
+    private GarageContextService garageContextService;
+    private UUID userId;
+    private UUID garageId;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class StatementCounters {
+        public long statements;
+        public long requests;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start(TenantConfig.class, "tenant", "");
+        garageContextService = context.getBean(GarageContextService.class);
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User("Asha", "Rao", EMAIL, "{noop}secret", "9876543210"));
+        Garage garage = context.getBean(GarageRepository.class)
+                .save(new Garage(user.getId(), "Rao Motors", "BRN-0001", null, "09:00-19:00"));
+        userId = user.getId();
+        garageId = garage.getId();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(EMAIL, null, AuthorityUtils.createAuthorityList("ROLE_OWNER")));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public void request(StatementCounters counters, Blackhole blackhole) {
+        boolean requestScoped = !"per-call".equals(tenantResolution);
+        if (requestScoped) {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        }
+        try {
+            if ("jwt-claims".equals(tenantResolution)) {
+                TenantContext tenantContext = TenantContext.current();
+                tenantContext.setUserId(userId);
+                tenantContext.setGarageId(garageId);
+            }
+
+            long before = StatementCountingInspector.currentCount();
+            blackhole.consume(garageContextService.getCurrentUserId());
+            blackhole.consume(garageContextService.getCurrentUserGarage());
+            blackhole.consume(garageContextService.getCurrentUserGarageId());
+            blackhole.consume(garageContextService.getCurrentUserGarageId());
+            counters.statements += StatementCountingInspector.currentCount() - before;
+            counters.requests++;
+        } finally {
+            if (requestScoped) {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }
+    }
+
+    @Configuration
+    @EnableJpaAuditing
+    @EnableJpaRepositories(
+            basePackageClasses = {UserRepository.class, GarageRepository.class},
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {UserRepository.class, GarageRepository.class}))
+    static class TenantConfig {
+
+        @Bean
+        PersistenceManagedTypes managedTypes() {
+            return PersistenceManagedTypes.of(User.class.getName(), OTPCode.class.getName(),
+                    Garage.class.getName());
+        }
+
+        @Bean
+        GarageContextService garageContextService() {
+            return new GarageContextService();
+        }
+    }
+}
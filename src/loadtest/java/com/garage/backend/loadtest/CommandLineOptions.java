@@ -0,0 +1,54 @@
+package com.garage.backend.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal --key=value argument parser for the load-test tools
+ */
+final class CommandLineOptions {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    CommandLineOptions(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg + " (expected --key=value)");
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+    }
+
+    String get(String key, String defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            value = System.getenv(key.toUpperCase().replace('-', '_'));
+        }
+        return value != null ? value : defaultValue;
+    }
+
+    String require(String key) {
+        String value = get(key, null);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required option --" + key);
+        }
+        return value;
+    }
+
+    int getInt(String key, int defaultValue) {
+        return Integer.parseInt(get(key, String.valueOf(defaultValue)));
+    }
+
+    long getLong(String key, long defaultValue) {
+        return Long.parseLong(get(key, String.valueOf(defaultValue)));
+    }
+
+    boolean has(String key) {
+        return values.containsKey(key);
+    }
+}
@@ -0,0 +1,511 @@
+package com.garage.backend.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Bulk-loads a synthetic multi-garage dataset with batched JDBC inserts
+ *
+ * Scale is driven by --customers; the other tables follow fixed ratios:
+ * - 1 garage (owner user, branch, 5 staff, 200 inventory items) per 1,000 customers
+ *   (--inventory-per-garage raises the catalog size, e.g. 100000 for parts search tests)
+ * - 1.5 vehicles, 2 job cards, 2 invoices and 5 transactions per customer
+ *
+ * so 1,000 customers is roughly 12k rows and 850,000 customers roughly 10M.
+ * IDs are derived from the run ID and the row index instead of being kept in
+ * memory, which lets each table be split across --threads connections and
+ * keeps memory flat at any scale. Unique business keys (emails, phones, job
+ * and invoice numbers) carry the run ID so several runs can share a database.
+ *
+ * The schema must already exist (start the application against the database
+ * once). DailyFinancialSummary and FinancialTotals are not maintained by this
+ * tool, so the dashboard totals leave the seeded transactions out.
+ *
+ * Every garage owner can log in as owner-RUN-N@loadtest.local with --owner-password.
+ *
+ * Usage:
+ *   DataSeeder --jdbc-url=jdbc:postgresql://localhost:5432/garage --db-user=... --db-password=...
+ *              [--customers=10000] [--inventory-per-garage=200] [--threads=4] [--batch-size=1000] [--run-id=...] [--owner-password=LoadTest@123]
+ */
+public final class DataSeeder {
+
+    private static final int CUSTOMERS_PER_GARAGE = 1_000;
+    private static final int STAFF_PER_GARAGE = 5;
+    private static final int VEHICLES_PER_TWO_CUSTOMERS = 3;
+    private static final int JOB_CARDS_PER_CUSTOMER = 2;
+    private static final int TRANSACTIONS_PER_CUSTOMER = 5;
+    private static final int HISTORY_DAYS = 365;
+    private static final int MIN_STOCK_LEVEL = 5;
+
+    private static final String[] MAKES = {"Maruti", "Hyundai", "Tata", "Mahindra", "Honda", "Toyota", "Kia"};
+    private static final String[] MODELS = {"Swift", "Creta", "Nexon", "XUV700", "City", "Innova", "Seltos"};
+    private static final String[] PART_TYPES = {"Brake pad set", "Brake disc", "Oil filter", "Air filter",
+            "Cabin filter", "Fuel filter", "Spark plug", "Clutch plate", "Timing belt", "Wiper blade",
+            "Headlamp bulb", "Shock absorber", "Radiator hose", "Engine oil 5W-30", "Coolant", "Battery 12V"};
+    private static final String[] PART_CATEGORIES = {"Brakes", "Brakes", "Filters", "Filters",
+            "Filters", "Filters", "Ignition", "Transmission", "Engine", "Accessories",
+            "Electrical", "Suspension", "Cooling", "Lubricants", "Cooling", "Electrical"};
+    private static final String[] CITIES = {"Bengaluru", "Mumbai", "Pune", "Chennai", "Hyderabad", "Delhi"};
+    private static final String[] JOB_STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED", "COMPLETED", "COMPLETED"};
+    private static final String[] PAYMENT_METHODS = {"CASH", "CARD", "UPI", "UPI", "BANK_TRANSFER"};
+    private static final String[] EXPENSE_CATEGORIES = {"UTILITIES", "SALARY", "EQUIPMENT", "SUPPLIES", "RENT", "MAINTENANCE"};
+    private static final String[] STAFF_ROLES = {"MANAGER", "MECHANIC", "MECHANIC", "MECHANIC", "MECHANIC"};
+
+    private final String jdbcUrl;
+    private final String dbUser;
+    private final String dbPassword;
+    private final int batchSize;
+    private final int threads;
+    private final String runId;
+    private final long runBits;
+    private final String ownerPasswordHash;
+
+    private final int inventoryPerGarage;
+    private final long customers;
+    private final long garages;
+    private final long vehicles;
+    private final long jobCards;
+    private final long transactions;
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    private DataSeeder(CommandLineOptions options) {
+        String url = options.require("jdbc-url");
+        this.jdbcUrl = url.contains("reWriteBatchedInserts") ? url
+                : url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+        this.dbUser = options.require("db-user");
+        this.dbPassword = options.require("db-password");
+        this.batchSize = options.getInt("batch-size", 1_000);
+        this.threads = options.getInt("threads", 4);
+        this.runId = options.get("run-id", Long.toString(System.currentTimeMillis() / 1000, 36)).toLowerCase(Locale.ROOT);
+        this.runBits = ((long) runId.hashCode()) << 32;
+        this.ownerPasswordHash = new BCryptPasswordEncoder().encode(options.get("owner-password", "LoadTest@123"));
+
+        this.inventoryPerGarage = options.getInt("inventory-per-garage", 200);
+        this.customers = options.getLong("customers", 10_000);
+        this.garages = Math.max(1, customers / CUSTOMERS_PER_GARAGE);
+        this.vehicles = customers * VEHICLES_PER_TWO_CUSTOMERS / 2;
+        this.jobCards = customers * JOB_CARDS_PER_CUSTOMER;
+        this.transactions = customers * TRANSACTIONS_PER_CUSTOMER;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new DataSeeder(new CommandLineOptions(args)).run();
+    }
+
+    private void run() throws Exception {
+        System.out.printf("Seeding run %s: %d garages, %d customers, %d vehicles, %d job cards, %d transactions%n",
+                runId, garages, customers, vehicles, jobCards, transactions);
+        long start = System.nanoTime();
+        Set<String> userColumns = columnsOf("users");
+
+        // Parents before children so foreign keys are always satisfied
+        seed("users", garages, this::insertUsers, userColumns);
+        seed("garage", garages, this::insertGarages, null);
+        seed("branch", garages, this::insertBranches, null);
+        seed("staff", garages * STAFF_PER_GARAGE, this::insertStaff, null);
+        seed("inventory", garages * inventoryPerGarage, this::insertInventory, null);
+        seed("customers", customers, this::insertCustomers, null);
+        seed("vehicles", vehicles, this::insertVehicles, null);
+        seed("job_cards", jobCards, this::insertJobCards, null);
+        seed("invoice", jobCards, this::insertInvoices, null);
+        seed("transactions", transactions, this::insertTransactions, null);
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Done in %.1fs. Log in as owner-%s-0@loadtest.local%n", seconds, runId);
+    }
+
+    // ----- Generic batched loading -----
+
+    @FunctionalInterface
+    private interface RangeInserter {
+        void insert(Connection connection, long from, long to, Set<String> context) throws SQLException;
+    }
+
+    /**
+     * Split [0, rows) into one contiguous range per thread, each on its own connection
+     */
+    private void seed(String table, long rows, RangeInserter inserter, Set<String> context) throws Exception {
+        long start = System.nanoTime();
+        int workers = (int) Math.max(1, Math.min(threads, rows / batchSize));
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long chunk = (rows + workers - 1) / workers;
+            for (long from = 0; from < rows; from += chunk) {
+                long rangeStart = from;
+                long rangeEnd = Math.min(rows, from + chunk);
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword)) {
+                        connection.setAutoCommit(false);
+                        inserter.insert(connection, rangeStart, rangeEnd, context);
+                        connection.commit();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("  %-13s %,12d rows %8.1fs %,10.0f rows/s%n", table, rows, seconds, rows / Math.max(seconds, 1e-9));
+    }
+
+    /**
+     * Execute and commit every batchSize rows so a failure loses at most one batch
+     */
+    private void addToBatch(PreparedStatement statement, Connection connection, long index, long from) throws SQLException {
+        statement.addBatch();
+        if ((index - from + 1) % batchSize == 0) {
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private Set<String> columnsOf(String table) throws SQLException {
+        Set<String> columns = new HashSet<>();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword);
+             ResultSet rs = connection.getMetaData().getColumns(null, null, table, null)) {
+            while (rs.next()) {
+                columns.add(rs.getString("COLUMN_NAME"));
+            }
+        }
+        if (columns.isEmpty()) {
+            throw new IllegalStateException("Table " + table + " not found; start the application once to create the schema");
+        }
+        return columns;
+    }
+
+    // ----- Deterministic IDs and values -----
+
+    private UUID id(int table, long index) {
+        return new UUID(runBits | table, index);
+    }
+
+    private static final int USER = 1, GARAGE = 2, BRANCH = 3, STAFF = 4, INVENTORY = 5,
+            CUSTOMER = 6, VEHICLE = 7, JOB_CARD = 8, INVOICE = 9, TRANSACTION = 10, PRODUCT_INVENTORY = 11;
+
+    private Timestamp pastTimestamp(SplittableRandom random) {
+        return Timestamp.valueOf(now.minusMinutes(random.nextLong(HISTORY_DAYS * 24L * 60L)));
+    }
+
+    private static BigDecimal money(SplittableRandom random, int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextLong((max - min) * 100L), 2);
+    }
+
+    private long garageOfCustomer(long customer) {
+        return customer % garages;
+    }
+
+    private long customerOfVehicle(long vehicle) {
+        return vehicle * 2 / VEHICLES_PER_TWO_CUSTOMERS;
+    }
+
+    private long vehicleOfJobCard(long jobCard) {
+        return jobCard * vehicles / jobCards;
+    }
+
+    // ----- Table loaders -----
+
+    private void insertUsers(Connection connection, long from, long to, Set<String> columns) throws SQLException {
+        // Databases created by V1 still carry these NOT NULL columns
+        boolean legacy = columns.contains("garage_name");
+        String sql = "INSERT INTO users (id, first_name, last_name, email, password, mobile_number, is_active, created_at, updated_at"
+                + (legacy ? ", state, city, pincode, garage_name" : "")
+                + ") VALUES (?, ?, ?, ?, ?, ?, true, ?, ?" + (legacy ? ", ?, ?, ?, ?" : "") + ")";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            Timestamp created = Timestamp.valueOf(now.minusDays(HISTORY_DAYS));
+            for (long i = from; i < to; i++) {
+                ps.setObject(1, id(USER, i));
+                ps.setString(2, "Owner");
+                ps.setString(3, String.valueOf(i));
+                ps.setString(4, "owner-" + runId + "-" + i + "@loadtest.local");
+                ps.setString(5, ownerPasswordHash);
+                ps.setString(6, String.format("9%09d", i));
+                ps.setTimestamp(7, created);
+                ps.setTimestamp(8, created);
+                if (legacy) {
+                    ps.setString(9, "Karnataka");
+                    ps.setString(10, CITIES[(int) (i % CITIES.length)]);
+                    ps.setString(11, "560001");
+                    ps.setString(12, "Load Test Garage " + i);
+                }
+                addToBatch(ps, connection, i, from);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertGarages(Connection connection, long from, long to, Set<String> ignored) throws SQLException {
+        String sql = "INSERT INTO garage (id, created_by, garage_name, business_registration_number, business_hours,"
+                + " has_branch, is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, true, true, ?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            Timestamp created = Timestamp.valueOf(now.minusDays(HISTORY_DAYS));
+            for (long i = from; i < to; i++) {
+                ps.setObject(1, id(GARAGE, i));
+                ps.setObject(2, id(USER, i));
+                ps.setString(3, "Load Test Garage " + i);
+                ps.setString(4, "LT-" + runId + "-" + i);
+                ps.setString(5, "Mon-Sat 09:00-19:00");
+                ps.setTimestamp(6, created);
+                ps.setTimestamp(7, created);
+                addToBatch(ps, connection, i, from);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertBranches(Connection connection, long from, long to, Set<String> ignored) throws SQLException {
+        String sql = "INSERT INTO branch (id, branch_name, branch_code, phone, email, is_active, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, true, ?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            Timestamp created = Timestamp.valueOf(now.minusDays(HISTORY_DAYS));
+            for (long i = from; i < to; i++) {
+                ps.setObject(1, id(BRANCH, i));
+                ps.setString(2, "Main Branch " + i);
+                ps.setString(3, "BR-" + runId + "-" + i);
+                ps.setString(4, String.format("8%09d", i));
+                ps.setString(5, "branch-" + runId + "-" + i + "@loadtest.local");
+                ps.setTimestamp(6, created);
+                ps.setTimestamp(7, created);
+                addToBatch(ps, connection, i, from);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertStaff(Connection connection, long from, long to, Set<String> ignored) throws SQLException {
+        String sql = "INSERT INTO staff (id, garage_id, first_name, last_name, mobile_number, role, is_active,"
+                + " jobs_completed, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, true, ?, ?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            SplittableRandom random = new SplittableRandom(runBits ^ STAFF ^ from);
+            for (long i = from; i < to; i++) {
+                Timestamp created = pastTimestamp(random);
+                ps.setObject(1, id(STAFF, i));
+                ps.setObject(2, id(GARAGE, i / STAFF_PER_GARAGE));
+                ps.setString(3, "Staff");
+                ps.setString(4, String.valueOf(i));
+                ps.setString(5, String.format("7%09d", i));
+                ps.setString(6, STAFF_ROLES[(int) (i % STAFF_PER_GARAGE)]);
+                ps.setInt(7, random.nextInt(500));
+                ps.setTimestamp(8, created);
+                ps.setTimestamp(9, created);
+                addToBatch(ps, connection, i, from);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertInventory(Connection connection, long from, long to, Set<String> ignored) throws SQLException {
+        String itemSql = "INSERT INTO inventory (id, item_code, item_name, category, unit, cost_price, selling_price,"
+                + " branch_id, min_stock_level, max_stock_level, is_active, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?)";
+        String stockSql = "INSERT INTO product_inventory (id, inventory_id, quantity, reserved_quantity, below_threshold,"
+                + " last_updated) VALUES (?, ?, ?, 0, ?, ?)";
+        try (PreparedStatement items = connection.prepareStatement(itemSql);
+             PreparedStatement stock = connection.prepareStatement(stockSql)) {
+            SplittableRandom random = new SplittableRandom(runBits ^ INVENTORY ^ from);
+            for (long i = from; i < to; i++) {
+                Timestamp created = pastTimestamp(random);
+                BigDecimal cost = money(random, 50, 5_000);
+                items.setObject(1, id(INVENTORY, i));
+                items.setString(2, "IT-" + runId + "-" + i);
+                int partType = (int) (i % PART_TYPES.length);
+                long variant = i / PART_TYPES.length;
+                items.setString(3, PART_TYPES[partType] + " " + MAKES[(int) (variant % MAKES.length)] + " "
+                        + MODELS[(int) (variant / MAKES.length % MODELS.length)] + " " + (variant % inventoryPerGarage));
+                items.setString(4, PART_CATEGORIES[partType]);
+                items.setString(5, "PCS");
+                items.setBigDecimal(6, cost);
+                items.setBigDecimal(7, cost.multiply(BigDecimal.valueOf(13, 1)).setScale(2, RoundingMode.HALF_UP));
+                items.setObject(8, id(BRANCH, i / inventoryPerGarage));
+                items.setInt(9, MIN_STOCK_LEVEL);
+                items.setInt(10, 100);
+                items.setTimestamp(11, created);
+                items.setTimestamp(12, created);
+                items.addBatch();
+
+                stock.setObject(1, id(PRODUCT_INVENTORY, i));
+                stock.setObject(2, id(INVENTORY, i));
+                int quantity = random.nextInt(120);
+                stock.setInt(3, quantity);
+                stock.setBoolean(4, quantity < MIN_STOCK_LEVEL);
+                stock.setTimestamp(5, created);
+                stock.addBatch();
+
+                if ((i - from + 1) % batchSize == 0) {
+                    items.executeBatch();
+                    stock.executeBatch();
+                    connection.commit();
+                }
+            }
+            items.executeBatch();
+            stock.executeBatch();
+        }
+    }
+
+    private void insertCustomers(Connection connection, long from, long to, Set<String> ignored) throws SQLException {
+        String sql = "INSERT INTO customers (id, name, phone, email, address_line_1, city, state, is_regular_customer,"
+                + " created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            SplittableRandom random = new SplittableRandom(runBits ^ CUSTOMER ^ from);
+            for (long i = from; i < to; i++) {
+                Timestamp created = pastTimestamp(random);
+                ps.setObject(1, id(CUSTOMER, i));
+                ps.setString(2, "Customer " + i);
+                ps.setString(3, runId + "-" + i);
+                ps.setString(4, "customer-" + runId + "-" + i + "@loadtest.local");
+                ps.setString(5, (i % 200 + 1) + " Main Road");
+                ps.setString(6, CITIES[(int) (i % CITIES.length)]);
+                ps.setString(7, "Karnataka");
+                ps.setBoolean(8, i % 4 == 0);
+                ps.setTimestamp(9, created);
+                ps.setTimestamp(10, created);
+                addToBatch(ps, connection, i, from);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertVehicles(Connection connection, long from, long to, Set<String> ignored) throws SQLException {
+        String sql = "INSERT INTO vehicles (id, customer_id, registration_number, make, model, year, fuel_type,"
+                + " transmission_type, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            SplittableRandom random = new SplittableRandom(runBits ^ VEHICLE ^ from);
+            for (long i = from; i < to; i++) {
+                int model = random.nextInt(MAKES.length);
+                Timestamp created = pastTimestamp(random);
+                ps.setObject(1, id(VEHICLE, i));
+                ps.setObject(2, id(CUSTOMER, customerOfVehicle(i)));
+                ps.setString(3, String.format("KA%02d%s%04d", i % 60, runId.toUpperCase(Locale.ROOT), i % 10_000));
+                ps.setString(4, MAKES[model]);
+                ps.setString(5, MODELS[model]);
+                ps.setInt(6, 2010 + random.nextInt(15));
+                ps.setString(7, random.nextInt(3) == 0 ? "DIESEL" : "PETROL");
+                ps.setString(8, random.nextBoolean() ? "MANUAL" : "AUTOMATIC");
+                ps.setTimestamp(9, created);
+                ps.setTimestamp(10, created);
+                addToBatch(ps, connection, i, from);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertJobCards(Connection connection, long from, long to, Set<String> ignored) throws SQLException {
+        String sql = "INSERT INTO job_cards (id, customer_id, vehicle_id, job_number, description, estimated_cost,"
+                + " actual_cost, status, assigned_to, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            SplittableRandom random = new SplittableRandom(runBits ^ JOB_CARD ^ from);
+            for (long i = from; i < to; i++) {
+                long vehicle = vehicleOfJobCard(i);
+                long customer = customerOfVehicle(vehicle);
+                String status = JOB_STATUSES[random.nextInt(JOB_STATUSES.length)];
+                BigDecimal estimate = money(random, 500, 25_000);
+                Timestamp created = pastTimestamp(random);
+                ps.setObject(1, id(JOB_CARD, i));
+                ps.setObject(2, id(CUSTOMER, customer));
+                ps.setObject(3, id(VEHICLE, vehicle));
+                ps.setString(4, "JC-" + runId + "-" + i);
+                ps.setString(5, "Periodic service and inspection");
+                ps.setBigDecimal(6, estimate);
+                ps.setBigDecimal(7, "COMPLETED".equals(status) ? estimate : null);
+                ps.setString(8, status);
+                ps.setObject(9, id(STAFF, garageOfCustomer(customer) * STAFF_PER_GARAGE + 1 + random.nextInt(STAFF_PER_GARAGE - 1)));
+                ps.setTimestamp(10, created);
+                ps.setTimestamp(11, created);
+                addToBatch(ps, connection, i, from);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertInvoices(Connection connection, long from, long to, Set<String> ignored) throws SQLException {
+        String sql = "INSERT INTO invoice (id, invoice_number, customer_id, jobcard_id, branch_id, invoice_date, due_date,"
+                + " subtotal, tax_amount, discount_amount, total_amount, status, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            SplittableRandom random = new SplittableRandom(runBits ^ INVOICE ^ from);
+            for (long i = from; i < to; i++) {
+                long customer = customerOfVehicle(vehicleOfJobCard(i));
+                Timestamp created = pastTimestamp(random);
+                BigDecimal subtotal = money(random, 500, 25_000);
+                BigDecimal tax = subtotal.multiply(BigDecimal.valueOf(18, 2)).setScale(2, RoundingMode.HALF_UP);
+                Date invoiceDate = Date.valueOf(created.toLocalDateTime().toLocalDate());
+                ps.setObject(1, id(INVOICE, i));
+                ps.setString(2, "INV-" + runId + "-" + i);
+                ps.setObject(3, id(CUSTOMER, customer));
+                ps.setObject(4, id(JOB_CARD, i));
+                ps.setObject(5, id(BRANCH, garageOfCustomer(customer)));
+                ps.setDate(6, invoiceDate);
+                ps.setDate(7, Date.valueOf(invoiceDate.toLocalDate().plusDays(15)));
+                ps.setBigDecimal(8, subtotal);
+                ps.setBigDecimal(9, tax);
+                ps.setBigDecimal(10, subtotal.add(tax));
+                ps.setString(11, random.nextInt(5) == 0 ? "PENDING" : "PAID");
+                ps.setTimestamp(12, created);
+                ps.setTimestamp(13, created);
+                addToBatch(ps, connection, i, from);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertTransactions(Connection connection, long from, long to, Set<String> ignored) throws SQLException {
+        String sql = "INSERT INTO transactions (id, amount, transaction_type, transaction_date, transaction_date_only,"
+                + " description, status, customer_id, vehicle_id, job_card_id, payment_method, expense_category,"
+                + " vendor_name, reference_number, created_at, updated_at, created_by)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            SplittableRandom random = new SplittableRandom(runBits ^ TRANSACTION ^ from);
+            for (long i = from; i < to; i++) {
+                // Four incomes tied to job cards for every expense
+                boolean income = i % TRANSACTIONS_PER_CUSTOMER != 0;
+                long jobCard = (i * jobCards / transactions);
+                long vehicle = vehicleOfJobCard(jobCard);
+                long customer = customerOfVehicle(vehicle);
+                Timestamp when = pastTimestamp(random);
+                ps.setObject(1, id(TRANSACTION, i));
+                ps.setBigDecimal(2, income ? money(random, 300, 30_000) : money(random, 100, 15_000));
+                ps.setString(3, income ? "INCOME" : "EXPENSE");
+                ps.setTimestamp(4, when);
+                ps.setDate(5, Date.valueOf(when.toLocalDateTime().toLocalDate()));
+                ps.setString(6, income ? "Service payment" : "Workshop expense");
+                ps.setString(7, random.nextInt(10) == 0 ? "PENDING" : "COMPLETED");
+                ps.setObject(8, income ? id(CUSTOMER, customer) : null);
+                ps.setObject(9, income ? id(VEHICLE, vehicle) : null);
+                ps.setObject(10, income ? id(JOB_CARD, jobCard) : null);
+                ps.setString(11, income ? PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)] : null);
+                ps.setString(12, income ? null : EXPENSE_CATEGORIES[random.nextInt(EXPENSE_CATEGORIES.length)]);
+                ps.setString(13, income ? null : "Vendor " + random.nextInt(50));
+                ps.setString(14, "TXN-" + runId + "-" + i);
+                ps.setTimestamp(15, when);
+                ps.setTimestamp(16, when);
+                ps.setObject(17, id(STAFF, garageOfCustomer(customer) * STAFF_PER_GARAGE));
+                addToBatch(ps, connection, i, from);
+            }
+            ps.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.garage.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load driver replaying a weighted mix of read endpoints
+ *
+ * Logs in once as a seeded garage owner, then runs --concurrency workers that
+ * each pick an endpoint by weight, send it and immediately send the next one.
+ * Latencies go into per-worker HdrHistograms that are merged at the end, so
+ * recording adds no contention. The first --warmup-seconds are discarded.
+ *
+ * Endpoint templates take the page number as %1$d and a parts search term as
+ * %2$s; parts-search cycles through prefix, infix, code and misspelt terms so
+ * every branch of the search query is exercised (seed with a large
+ * --inventory-per-garage to measure it at catalog scale).
+ *
+ * Reports throughput, error count and p50/p90/p99/max per endpoint and overall,
+ * and writes the same figures as JSON when --report is given.
+ *
+ * Workers are platform threads: the build targets Java 17, where virtual
+ * threads are not available. A few hundred workers is plenty on one box since
+ * each one spends almost all of its time blocked on the socket.
+ *
+ * Usage:
+ *   LoadDriver --base-url=http://localhost:8080/api --email=owner-RUN-0@loadtest.local [--password=LoadTest@123]
+ *              [--concurrency=32] [--duration-seconds=60] [--warmup-seconds=10] [--report=target/load-report.json]
+ *              [--mix=customers:4,customers-cursor:2,transactions:3,transactions-today:1,money-data:1,staff:1]
+ *              (also available: parts-search)
+ */
+public final class LoadDriver {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private static final Map<String, String> ENDPOINTS = new LinkedHashMap<>();
+
+    static {
+        ENDPOINTS.put("customers", "/admin/customers?page=%d&size=20");
+        ENDPOINTS.put("customers-cursor", "/admin/customers/cursor?size=20");
+        ENDPOINTS.put("transactions", "/admin/financial-transactions?page=%d&size=20");
+        ENDPOINTS.put("transactions-cursor", "/admin/financial-transactions/cursor?size=20");
+        ENDPOINTS.put("transactions-today", "/admin/financial-transactions/today?transactionType=INCOME");
+        ENDPOINTS.put("money-data", "/admin/financial-transactions/money-data");
+        ENDPOINTS.put("staff", "/admin/staff?page=0&size=20");
+        ENDPOINTS.put("parts-search", "/admin/inventory/search?q=%2$s");
+    }
+
+    private static final String[] SEARCH_TERMS = {
+            "br", "oi", "brake", "filter", "spark pl", "shock abs", "maruti swift", "hyundai creta oil",
+            "wiper", "5w-30", "IT-", "timing blt", "brke pad", "shok absorber", "radiater hose", "clutch"
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final String email;
+    private final String password;
+    private final int concurrency;
+    private final long durationNanos;
+    private final long warmupNanos;
+    private final int maxPage;
+    private final String reportPath;
+    private final String[] weightedEndpoints;
+    private final HttpClient client;
+
+    private LoadDriver(CommandLineOptions options) {
+        this.baseUrl = options.get("base-url", "http://localhost:8080/api").replaceAll("/$", "");
+        this.email = options.require("email");
+        this.password = options.get("password", "LoadTest@123");
+        this.concurrency = options.getInt("concurrency", 32);
+        this.durationNanos = TimeUnit.SECONDS.toNanos(options.getLong("duration-seconds", 60));
+        this.warmupNanos = TimeUnit.SECONDS.toNanos(options.getLong("warmup-seconds", 10));
+        this.maxPage = options.getInt("max-page", 50);
+        this.reportPath = options.get("report", null);
+        this.weightedEndpoints = parseMix(options.get("mix",
+                "customers:4,customers-cursor:2,transactions:3,transactions-today:1,money-data:1,staff:1"));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, concurrency / 8)))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(new CommandLineOptions(args)).run();
+    }
+
+    private static String[] parseMix(String mix) {
+        List<String> weighted = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (!ENDPOINTS.containsKey(parts[0])) {
+                throw new IllegalArgumentException("Unknown endpoint in --mix: " + parts[0] + " (known: " + ENDPOINTS.keySet() + ")");
+            }
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
+            for (int i = 0; i < weight; i++) {
+                weighted.add(parts[0]);
+            }
+        }
+        return weighted.toArray(new String[0]);
+    }
+
+    private void run() throws Exception {
+        String token = login();
+        System.out.printf("Running %d workers for %ds after %ds warm-up against %s%n",
+                concurrency, TimeUnit.NANOSECONDS.toSeconds(durationNanos), TimeUnit.NANOSECONDS.toSeconds(warmupNanos), baseUrl);
+
+        long measureFrom = System.nanoTime() + warmupNanos;
+        long stopAt = measureFrom + durationNanos;
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<WorkerResult>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> work(token, measureFrom, stopAt)));
+        }
+
+        WorkerResult total = new WorkerResult();
+        for (Future<WorkerResult> future : futures) {
+            total.merge(future.get());
+        }
+        workers.shutdown();
+
+        report(total, (double) durationNanos / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private String login() throws Exception {
+        ObjectNode body = objectMapper.createObjectNode().put("email", email).put("password", password);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/admin/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        JsonNode json = objectMapper.readTree(response.body());
+        if (response.statusCode() != 200 || !json.path("success").asBoolean() || json.path("token").isMissingNode()) {
+            throw new IllegalStateException("Login failed with HTTP " + response.statusCode() + ": " + response.body());
+        }
+        return json.get("token").asText();
+    }
+
+    private WorkerResult work(String token, long measureFrom, long stopAt) {
+        WorkerResult result = new WorkerResult();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < stopAt) {
+            String name = weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+            String term = URLEncoder.encode(SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)], StandardCharsets.UTF_8);
+            String path = String.format(ENDPOINTS.get(name), random.nextInt(maxPage), term);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            if (now >= measureFrom) {
+                result.record(name, TimeUnit.NANOSECONDS.toMicros(end - now), ok);
+            }
+        }
+        return result;
+    }
+
+    private void report(WorkerResult total, double seconds) throws Exception {
+        ObjectNode json = objectMapper.createObjectNode();
+        json.put("durationSeconds", seconds);
+        json.put("concurrency", concurrency);
+        ObjectNode endpoints = json.putObject("endpoints");
+
+        System.out.printf("%n%-20s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (Map.Entry<String, Histogram> entry : total.histograms.entrySet()) {
+            endpoints.set(entry.getKey(), printRow(entry.getKey(), entry.getValue(),
+                    total.errors.getOrDefault(entry.getKey(), 0L), seconds));
+        }
+        json.set("overall", printRow("overall", total.overall, total.errorCount(), seconds));
+
+        if (reportPath != null) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(reportPath), json);
+            System.out.println("Report written to " + reportPath);
+        }
+    }
+
+    private ObjectNode printRow(String name, Histogram histogram, long errors, double seconds) {
+        long count = histogram.getTotalCount();
+        double throughput = count / seconds;
+        double p50 = histogram.getValueAtPercentile(50) / 1000.0;
+        double p90 = histogram.getValueAtPercentile(90) / 1000.0;
+        double p99 = histogram.getValueAtPercentile(99) / 1000.0;
+        double max = histogram.getMaxValue() / 1000.0;
+        System.out.printf("%-20s %,10d %,8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name, count, errors, throughput, p50, p90, p99, max);
+
+        ObjectNode row = objectMapper.createObjectNode();
+        row.put("requests", count);
+        row.put("errors", errors);
+        row.put("throughput", throughput);
+        row.put("p50Ms", p50);
+        row.put("p90Ms", p90);
+        row.put("p99Ms", p99);
+        row.put("maxMs", max);
+        return row;
+    }
+
+    /**
+     * Latencies and error counts collected by one worker, merged after the run
+     */
+    private static final class WorkerResult {
+
+        private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+        private final Map<String, Long> errors = new LinkedHashMap<>();
+        private final Histogram overall = newHistogram();
+
+        private static Histogram newHistogram() {
+            return new Histogram(MAX_TRACKABLE_MICROS, 3);
+        }
+
+        void record(String endpoint, long micros, boolean ok) {
+            long value = Math.min(micros, MAX_TRACKABLE_MICROS);
+            histograms.computeIfAbsent(endpoint, key -> newHistogram()).recordValue(value);
+            overall.recordValue(value);
+            if (!ok) {
+                errors.merge(endpoint, 1L, Long::sum);
+            }
+        }
+
+        void merge(WorkerResult other) {
+            other.histograms.forEach((endpoint, histogram) ->
+                    histograms.computeIfAbsent(endpoint, key -> newHistogram()).add(histogram));
+            other.errors.forEach((endpoint, count) -> errors.merge(endpoint, count, Long::sum));
+            overall.add(other.overall);
+        }
+
+        long errorCount() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.garage.backend.authentication.dto.ChangePasswordRequest;
 
 import com.garage.backend.authentication.service.AuthService;
 import com.garage.backend.authentication.service.OTPService;
+import com.garage.backend.shared.security.PasswordHashingOverloadedException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -128,6 +129,8 @@ public class AuthController {
             }
             
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
@@ -211,6 +214,8 @@ public class AuthController {
             }
             
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
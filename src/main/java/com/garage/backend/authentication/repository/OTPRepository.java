@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,6 +21,19 @@ public interface OTPRepository extends JpaRepository<OTPCode, Long> {
                                                  @Param("type") String type,
                                                  @Param("now") LocalDateTime now);
 
+    Optional<OTPCode> findFirstByEmailIdAndTypeAndIsUsedFalseAndExpiresAtAfterOrderByCreatedAtDesc(String emailId,
+                                                                                        String type,
+                                                                                        LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OTPCode o SET o.isUsed = true WHERE o.id = :id AND o.isUsed = false")
+    int markUsed(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM OTPCode o WHERE o.emailId = :emailId AND o.type = :type AND o.isUsed = false")
+    void deleteUnusedByEmailAndType(@Param("emailId") String emailId,
+                                    @Param("type") String type);
+
     @Query("SELECT o FROM OTPCode o WHERE o.emailId = :emailId AND o.type = :type ORDER BY o.createdAt DESC")
     List<OTPCode> findAllByEmailAndType(@Param("emailId") String emailId,
                                         @Param("type") String type);
@@ -33,6 +47,7 @@ public interface OTPRepository extends JpaRepository<OTPCode, Long> {
     @Query("SELECT o FROM OTPCode o WHERE o.expiresAt < :now")
     List<OTPCode> findExpiredOTPs(@Param("now") LocalDateTime now);
 
+    @Transactional
     @Modifying
     @Query("DELETE FROM OTPCode o WHERE o.expiresAt < :now")
     void deleteExpiredOTPs(@Param("now") LocalDateTime now);
@@ -6,7 +6,11 @@ import com.garage.backend.authentication.dto.RegisterRequest;
 
 import com.garage.backend.authentication.entity.User;
 import com.garage.backend.authentication.repository.UserRepository;
+import com.garage.backend.settings.entity.Garage;
+import com.garage.backend.settings.repository.GarageRepository;
 import com.garage.backend.shared.security.JwtUtil;
+import com.garage.backend.shared.security.PasswordHashingOverloadedException;
+import com.garage.backend.shared.security.PrincipalCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -15,6 +19,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Service
 public class AuthService {
@@ -34,6 +39,12 @@ public class AuthService {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private GarageRepository garageRepository;
+
     public AuthResponse register(RegisterRequest request) {
         try {
             // Validate password confirmation
@@ -59,7 +70,7 @@ public class AuthService {
 
             // Generate tokens
             UserDetails userDetails = userDetailsService.loadUserByUsername(savedUser.getEmail());
-            String token = jwtUtil.generateToken(userDetails);
+            String token = generateAccessToken(userDetails, savedUser);
             String refreshToken = jwtUtil.generateRefreshToken(userDetails);
 
             // Create user info
@@ -74,6 +85,8 @@ public class AuthService {
 
             return AuthResponse.success(token, refreshToken, jwtUtil.getExpiration(), userInfo);
 
+        } catch (PasswordHashingOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             return AuthResponse.error("Registration failed: " + e.getMessage());
         }
@@ -89,16 +102,16 @@ public class AuthService {
             // Load user details
             UserDetails userDetails = userDetailsService.loadUserByUsername(request.getEmail());
 
-            // Generate tokens
-            String token = jwtUtil.generateToken(userDetails);
-            String refreshToken = jwtUtil.generateRefreshToken(userDetails);
-
             // Get user info from database
             User user = userRepository.findByEmail(request.getEmail()).orElse(null);
             if (user == null) {
                 return AuthResponse.error("User not found");
             }
 
+            // Generate tokens
+            String token = generateAccessToken(userDetails, user);
+            String refreshToken = jwtUtil.generateRefreshToken(userDetails);
+
             // Create user info
             AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
                     user.getId(),
@@ -111,6 +124,8 @@ public class AuthService {
 
             return AuthResponse.success(token, refreshToken, jwtUtil.getExpiration(), userInfo);
 
+        } catch (PasswordHashingOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             return AuthResponse.error("Invalid email or password");
         }
@@ -130,7 +145,10 @@ public class AuthService {
             // Update password
             user.setPassword(passwordEncoder.encode(newPassword));
             userRepository.save(user);
+            principalCache.evict(user.getEmail());
             return true;
+        } catch (PasswordHashingOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error resetting password: " + e.getMessage());
             return false;
@@ -152,7 +170,7 @@ public class AuthService {
             UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
 
             // Generate tokens
-            String token = jwtUtil.generateToken(userDetails);
+            String token = generateAccessToken(userDetails, user);
             String refreshToken = jwtUtil.generateRefreshToken(userDetails);
             // Create user info
             AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
@@ -193,12 +211,25 @@ public class AuthService {
             // Update password
             user.setPassword(passwordEncoder.encode(newPassword));
             userRepository.save(user);
+            principalCache.evict(user.getEmail());
             return true;
+        } catch (PasswordHashingOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error changing password: " + e.getMessage());
             return false;
         }
     }
 
-
-} 
\ No newline at end of file
+    /**
+     * Generate an access token embedding the user's tenant (user and garage IDs)
+     * so that authenticated requests can resolve it without database lookups
+     */
+    private String generateAccessToken(UserDetails userDetails, User user) {
+        UUID garageId = garageRepository.findByCreatedBy(user.getId()).stream()
+                .findFirst()
+                .map(Garage::getId)
+                .orElse(null);
+        return jwtUtil.generateToken(userDetails, user.getId(), garageId);
+    }
+}
@@ -0,0 +1,102 @@
+package com.garage.backend.authentication.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-process OTP store for single-instance deployments
+ *
+ * Codes live in a bounded Caffeine map keyed by (email, type). Each entry
+ * expires at its own time through Caffeine's timer wheel, and the system
+ * scheduler removes it promptly instead of waiting for a sweep. Verification
+ * takes no lock: it reads the current entry and consumes it with
+ * ConcurrentMap.remove(key, entry), which succeeds for exactly one caller.
+ * Codes are lost on restart, which only forces users to request a new one.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.security.otp.store", havingValue = "memory")
+public class InMemoryOtpStore implements OtpStore {
+
+    private record Key(String email, String type) {}
+
+    /**
+     * Identity equality on purpose: remove(key, entry) must only match the exact instance that was read
+     */
+    private static final class Entry {
+        private final byte[] code;
+        private final long ttlNanos;
+
+        private Entry(String code, long ttlNanos) {
+            this.code = code.getBytes(StandardCharsets.UTF_8);
+            this.ttlNanos = ttlNanos;
+        }
+    }
+
+    private final ConcurrentMap<Key, Entry> codes;
+    private final Cache<Key, Entry> cache;
+
+    public InMemoryOtpStore(@Value("${spring.security.otp.max-entries:100000}") long maxEntries) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<Key, Entry>() {
+                    @Override
+                    public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+        this.codes = cache.asMap();
+    }
+
+    @Override
+    public void save(String email, String type, String code, LocalDateTime expiresAt) {
+        long ttlNanos = Duration.between(LocalDateTime.now(), expiresAt).toNanos();
+        if (ttlNanos <= 0) {
+            return;
+        }
+        codes.put(new Key(email, type), new Entry(code, ttlNanos));
+    }
+
+    @Override
+    public boolean consume(String email, String type, String code) {
+        Key key = new Key(email, type);
+        Entry entry = codes.get(key);
+        if (entry == null || code == null
+                || !MessageDigest.isEqual(entry.code, code.getBytes(StandardCharsets.UTF_8))) {
+            return false;
+        }
+        return codes.remove(key, entry);
+    }
+
+    @Override
+    public void discard(String email, String type) {
+        codes.remove(new Key(email, type));
+    }
+
+    @Override
+    public void purgeExpired() {
+        cache.cleanUp();
+    }
+}
@@ -0,0 +1,53 @@
+package com.garage.backend.authentication.service;
+
+import com.garage.backend.authentication.entity.OTPCode;
+import com.garage.backend.authentication.repository.OTPRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Durable OTP store backed by the otp_codes table
+ *
+ * Consumption is a conditional UPDATE on is_used, so only one of several
+ * concurrent verifications of the same code can succeed.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.security.otp.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaOtpStore implements OtpStore {
+
+    @Autowired
+    private OTPRepository otpRepository;
+
+    @Override
+    public void save(String email, String type, String code, LocalDateTime expiresAt) {
+        otpRepository.save(new OTPCode(email, code, type, expiresAt));
+    }
+
+    @Override
+    @Transactional
+    public boolean consume(String email, String type, String code) {
+        Optional<OTPCode> latest = otpRepository.findFirstByEmailIdAndTypeAndIsUsedFalseAndExpiresAtAfterOrderByCreatedAtDesc(
+                email, type, LocalDateTime.now());
+        if (latest.isEmpty() || !latest.get().getOtpCode().equals(code)) {
+            return false;
+        }
+        return otpRepository.markUsed(latest.get().getId()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void discard(String email, String type) {
+        otpRepository.deleteUnusedByEmailAndType(email, type);
+    }
+
+    @Override
+    @Transactional
+    public void purgeExpired() {
+        otpRepository.deleteExpiredOTPs(LocalDateTime.now());
+    }
+}
@@ -1,31 +1,25 @@
 package com.garage.backend.authentication.service;
 
-import com.garage.backend.authentication.entity.OTPCode;
-import com.garage.backend.authentication.repository.OTPRepository;
 import com.garage.backend.shared.EmailService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 import java.util.Random;
 
 @Service
 public class OTPService {
     
     @Autowired
-    private OTPRepository otpRepository;
+    private OtpStore otpStore;
     
     @Autowired
     private EmailService emailService;
     
-    private static final String OTP_MESSAGE_TEMPLATE = "Your PitStop verification code is %s. Valid for 2 minutes.";
+    private static final String OTP_MESSAGE_TEMPLATE = "Your PitStop verification code is %s. Valid for %d minutes.";
     private static final int OTP_LENGTH = 4;
     private static final int OTP_EXPIRY_MINUTES = 2;
-    // Removed rate limiting constants for testing phase
-    // private static final int RATE_LIMIT_REQUESTS = 5;
-    // private static final int RATE_LIMIT_HOURS = 1;
     
     /**
      * Generate and send OTP for forgot password
@@ -46,22 +40,8 @@ public class OTPService {
      */
     public boolean verifyOTP(String email, String otpCode, String type) {
         try {
-            Optional<OTPCode> otpOptional = otpRepository.findValidOTPByEmailAndType(
-                email, type, LocalDateTime.now());
-            
-            if (otpOptional.isPresent()) {
-                OTPCode otp = otpOptional.get();
-                
-                // Check if OTP matches and is not used
-                if (otp.getOtpCode().equals(otpCode) && !otp.getIsUsed()) {
-                    // Mark OTP as used
-                    otp.setIsUsed(true);
-                    otpRepository.save(otp);
-                    return true;
-                }
-            }
-            
-            return false;
+            // Marks the code as used; concurrent attempts with the same code succeed only once
+            return otpStore.consume(email, type, otpCode);
         } catch (Exception e) {
             System.err.println("Error verifying OTP: " + e.getMessage());
             e.printStackTrace();
@@ -69,31 +49,12 @@ public class OTPService {
         }
     }
     
-    // Removed canRequestOTP method for testing phase
-    // /**
-    //  * Check if user can request OTP (rate limiting)
-    //  */
-    // public boolean canRequestOTP(String email, String type) {
-    //     try {
-    //         LocalDateTime since = LocalDateTime.now().minusHours(RATE_LIMIT_HOURS);
-    //         long recentRequests = otpRepository.countRecentEmailOTPRequests(email, type, since);
-    //         return recentRequests < RATE_LIMIT_REQUESTS;
-    //     } catch (Exception e) {
-    //         System.err.println("Error checking rate limit: " + e.getMessage());
-    //         return false;
-    //     }
-    // }
-    
     /**
      * Generate and send OTP
      */
     private boolean sendOTP(String email, String type) {
         try {
-            // Removed rate limiting check for testing phase
-            // if (!canRequestOTP(email, type)) {
-            //     System.err.println("Rate limit exceeded for email: " + email);
-            //     return false;
-            // }
+            // Request rate is limited per email and client IP by AuthRateLimitFilter
             
             // Check if email service is available
             if (!emailService.isServiceAvailable()) {
@@ -105,17 +66,16 @@ public class OTPService {
             String otpCode = generateOTP();
             LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(OTP_EXPIRY_MINUTES);
             
-            // Save OTP to database
-            OTPCode otp = new OTPCode(email, otpCode, type, expiresAt);
-            otpRepository.save(otp);
+            // Store OTP, superseding any earlier code for this email and type
+            otpStore.save(email, type, otpCode, expiresAt);
             
-            // Send email
-            String message = String.format(OTP_MESSAGE_TEMPLATE, otpCode);
-            boolean emailSent = emailService.sendOTP(email, message);
+            // Queue email for background delivery
+            String message = String.format(OTP_MESSAGE_TEMPLATE, otpCode, OTP_EXPIRY_MINUTES);
+            boolean emailSent = emailService.sendOTP(email, message, expiresAt);
             
             if (!emailSent) {
-                // If email failed, delete the OTP from database
-                otpRepository.delete(otp);
+                // If email failed, withdraw the OTP
+                otpStore.discard(email, type);
                 return false;
             }
             
@@ -141,8 +101,7 @@ public class OTPService {
     @Scheduled(fixedRate = 300000) // Run every 5 minutes
     public void cleanupExpiredOTPs() {
         try {
-            LocalDateTime now = LocalDateTime.now();
-            otpRepository.deleteExpiredOTPs(now);
+            otpStore.purgeExpired();
         } catch (Exception e) {
             System.err.println("Error cleaning up expired OTPs: " + e.getMessage());
         }
@@ -0,0 +1,45 @@
+package com.garage.backend.authentication.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Storage for issued one-time passwords
+ *
+ * Only the most recently issued code for an (email, type) pair can be
+ * consumed, and a code can be consumed at most once even when several
+ * verification requests race. The implementation is chosen with
+ * spring.security.otp.store: "jpa" (default, durable and shared between
+ * instances) or "memory" (single instance, no database round trips).
+ */
+public interface OtpStore {
+
+    /**
+     * Store a newly issued code, superseding any earlier code for the same email and type
+     * @param email email the code was sent to
+     * @param type OTP type (FORGOT_PASSWORD, LOGIN_OTP)
+     * @param code the code
+     * @param expiresAt time after which the code is no longer accepted
+     */
+    void save(String email, String type, String code, LocalDateTime expiresAt);
+
+    /**
+     * Consume a code
+     * @param email email the code was sent to
+     * @param type OTP type
+     * @param code code supplied by the user
+     * @return true if the code matched the current unexpired code and had not been used yet
+     */
+    boolean consume(String email, String type, String code);
+
+    /**
+     * Withdraw the current code, e.g. when it could not be delivered
+     * @param email email the code was sent to
+     * @param type OTP type
+     */
+    void discard(String email, String type);
+
+    /**
+     * Drop expired codes
+     */
+    void purgeExpired();
+}
@@ -0,0 +1,69 @@
+package com.garage.backend.config;
+
+import java.util.Locale;
+import java.util.Set;
+
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+import org.hibernate.tool.schema.spi.SchemaFilterProvider;
+
+/**
+ * Keeps Hibernate's ddl-auto away from tables whose schema is owned by the
+ * Flyway migrations in db/migration
+ *
+ * Applied by {@link MigrationOwnedTablesSchemaManagementTool}. When a table is
+ * moved under migrations, add it here in the same change as its CREATE TABLE.
+ */
+public class MigrationOwnedTablesFilterProvider implements SchemaFilterProvider {
+
+    static final Set<String> MIGRATION_OWNED_TABLES = Set.of(
+            "transactions",
+            "daily_financial_summary",
+            "financial_totals",
+            "daily_snapshots"
+    );
+
+    private static final SchemaFilter FILTER = new SchemaFilter() {
+        @Override
+        public boolean includeNamespace(Namespace namespace) {
+            return true;
+        }
+
+        @Override
+        public boolean includeTable(Table table) {
+            return !MIGRATION_OWNED_TABLES.contains(table.getName().toLowerCase(Locale.ROOT));
+        }
+
+        @Override
+        public boolean includeSequence(Sequence sequence) {
+            return true;
+        }
+    };
+
+    @Override
+    public SchemaFilter getCreateFilter() {
+        return FILTER;
+    }
+
+    @Override
+    public SchemaFilter getDropFilter() {
+        return FILTER;
+    }
+
+    @Override
+    public SchemaFilter getTruncatorFilter() {
+        return FILTER;
+    }
+
+    @Override
+    public SchemaFilter getMigrateFilter() {
+        return FILTER;
+    }
+
+    @Override
+    public SchemaFilter getValidateFilter() {
+        return FILTER;
+    }
+}
@@ -0,0 +1,105 @@
+package com.garage.backend.config;
+
+import java.util.Map;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.tool.schema.internal.HibernateSchemaManagementTool;
+import org.hibernate.tool.schema.spi.ContributableMatcher;
+import org.hibernate.tool.schema.spi.DelayedDropAction;
+import org.hibernate.tool.schema.spi.ExceptionHandler;
+import org.hibernate.tool.schema.spi.ExecutionOptions;
+import org.hibernate.tool.schema.spi.SchemaCreator;
+import org.hibernate.tool.schema.spi.SchemaDropper;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+import org.hibernate.tool.schema.spi.SchemaMigrator;
+import org.hibernate.tool.schema.spi.SchemaTruncator;
+import org.hibernate.tool.schema.spi.SchemaValidator;
+import org.hibernate.tool.schema.spi.SourceDescriptor;
+import org.hibernate.tool.schema.spi.TargetDescriptor;
+
+/**
+ * Hibernate's schema tool with the {@link MigrationOwnedTablesFilterProvider}
+ * filters applied to ddl-auto
+ *
+ * Registered through hibernate.schema_management_tool. Hibernate 6 reads the
+ * table filter from the ExecutionOptions that ddl-auto builds, and those
+ * always carry the default include-everything filter, so
+ * hibernate.hbm2ddl.schema_filter_provider alone does not keep ddl-auto away
+ * from a table. This tool hands each action the provider's filter instead.
+ */
+public class MigrationOwnedTablesSchemaManagementTool extends HibernateSchemaManagementTool {
+
+    private static final MigrationOwnedTablesFilterProvider FILTERS = new MigrationOwnedTablesFilterProvider();
+
+    @Override
+    public SchemaCreator getSchemaCreator(Map<String, Object> options) {
+        SchemaCreator creator = super.getSchemaCreator(options);
+        return (metadata, executionOptions, inclusionFilter, source, target) -> creator.doCreation(metadata,
+                filtered(executionOptions, FILTERS.getCreateFilter()), inclusionFilter, source, target);
+    }
+
+    @Override
+    public SchemaMigrator getSchemaMigrator(Map<String, Object> options) {
+        SchemaMigrator migrator = super.getSchemaMigrator(options);
+        return (metadata, executionOptions, inclusionFilter, target) -> migrator.doMigration(metadata,
+                filtered(executionOptions, FILTERS.getMigrateFilter()), inclusionFilter, target);
+    }
+
+    @Override
+    public SchemaValidator getSchemaValidator(Map<String, Object> options) {
+        SchemaValidator validator = super.getSchemaValidator(options);
+        return (metadata, executionOptions, inclusionFilter) -> validator.doValidation(metadata,
+                filtered(executionOptions, FILTERS.getValidateFilter()), inclusionFilter);
+    }
+
+    @Override
+    public SchemaTruncator getSchemaTruncator(Map<String, Object> options) {
+        SchemaTruncator truncator = super.getSchemaTruncator(options);
+        return (metadata, executionOptions, inclusionFilter, target) -> truncator.doTruncate(metadata,
+                filtered(executionOptions, FILTERS.getTruncatorFilter()), inclusionFilter, target);
+    }
+
+    @Override
+    public SchemaDropper getSchemaDropper(Map<String, Object> options) {
+        SchemaDropper dropper = super.getSchemaDropper(options);
+        return new SchemaDropper() {
+            @Override
+            public void doDrop(Metadata metadata, ExecutionOptions executionOptions,
+                               ContributableMatcher inclusionFilter, SourceDescriptor source, TargetDescriptor target) {
+                dropper.doDrop(metadata, filtered(executionOptions, FILTERS.getDropFilter()), inclusionFilter,
+                        source, target);
+            }
+
+            @Override
+            public DelayedDropAction buildDelayedAction(Metadata metadata, ExecutionOptions executionOptions,
+                                                        ContributableMatcher inclusionFilter, SourceDescriptor source) {
+                return dropper.buildDelayedAction(metadata, filtered(executionOptions, FILTERS.getDropFilter()),
+                        inclusionFilter, source);
+            }
+        };
+    }
+
+    private static ExecutionOptions filtered(ExecutionOptions options, SchemaFilter filter) {
+        return new ExecutionOptions() {
+            @Override
+            public Map<String, Object> getConfigurationValues() {
+                return options.getConfigurationValues();
+            }
+
+            @Override
+            public boolean shouldManageNamespaces() {
+                return options.shouldManageNamespaces();
+            }
+
+            @Override
+            public ExceptionHandler getExceptionHandler() {
+                return options.getExceptionHandler();
+            }
+
+            @Override
+            public SchemaFilter getSchemaFilter() {
+                return filter;
+            }
+        };
+    }
+}
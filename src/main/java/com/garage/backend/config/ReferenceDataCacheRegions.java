@@ -0,0 +1,20 @@
+package com.garage.backend.config;
+
+/**
+ * Second-level cache region names for read-mostly reference data
+ *
+ * Each region is created with its own size bound by SecondLevelCacheConfig;
+ * entities opt in with @Cache(region = ...).
+ */
+public final class ReferenceDataCacheRegions {
+
+    private ReferenceDataCacheRegions() {}
+
+    public static final String TAX = "reference.tax";
+    public static final String PAYMENT_METHOD = "reference.payment-method";
+    public static final String VEHICLE_BRAND = "reference.vehicle-brand";
+    public static final String SERVICE_CATEGORIES = "reference.service-categories";
+    public static final String SERVICE_PACKAGES = "reference.service-packages";
+    public static final String EMAIL_TEMPLATES = "reference.email-templates";
+    public static final String SETTINGS = "reference.settings";
+}
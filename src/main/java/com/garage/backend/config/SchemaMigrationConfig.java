@@ -0,0 +1,46 @@
+package com.garage.backend.config;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+/**
+ * Runs the Flyway migrations after Hibernate has updated the entity-managed tables
+ *
+ * Spring Boot's own Flyway auto-run stays disabled because it migrates before
+ * the entity manager starts, when the tables the migrations reference may not
+ * exist yet on a fresh database. Running afterwards, the schema is never
+ * empty, so existing databases and new ones are both baselined at
+ * spring.flyway.baseline-version and only later migrations are applied.
+ */
+@Configuration
+public class SchemaMigrationConfig {
+
+    @Value("${spring.flyway.locations:classpath:db/migration}")
+    private String[] locations;
+
+    @Value("${spring.flyway.baseline-version:1}")
+    private String baselineVersion;
+
+    /**
+     * Exposes the migration result rather than the Flyway instance: Spring Boot
+     * treats any Flyway bean as a database initializer that the entity manager
+     * factory must wait for, which would make this depends-on circular.
+     */
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public MigrateResult schemaMigrations(DataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations(locations)
+                .baselineOnMigrate(true)
+                .baselineVersion(baselineVersion)
+                .load()
+                .migrate();
+    }
+}
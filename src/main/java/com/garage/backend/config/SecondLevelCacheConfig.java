@@ -0,0 +1,92 @@
+package com.garage.backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level and query cache backed by Caffeine through JCache
+ *
+ * Every region is created here with an explicit size bound, and Hibernate is
+ * told to fail on any region it does not find, so no unbounded cache can
+ * appear by accident. Entity regions expire after reference-ttl-seconds so
+ * writes made by another instance become visible within that window; writes
+ * through this instance invalidate the entry and the dependent query results
+ * immediately.
+ *
+ * Hits, misses, puts and evictions are exported per region as cache.* meters
+ * tagged cache=<region>, layer=hibernate.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Reference tables hold tens to low hundreds of rows; sizes leave headroom
+    private static final Map<String, Long> ENTITY_REGION_SIZES = new LinkedHashMap<>();
+
+    static {
+        ENTITY_REGION_SIZES.put(ReferenceDataCacheRegions.TAX, 500L);
+        ENTITY_REGION_SIZES.put(ReferenceDataCacheRegions.PAYMENT_METHOD, 200L);
+        ENTITY_REGION_SIZES.put(ReferenceDataCacheRegions.VEHICLE_BRAND, 1_000L);
+        ENTITY_REGION_SIZES.put(ReferenceDataCacheRegions.SERVICE_CATEGORIES, 500L);
+        ENTITY_REGION_SIZES.put(ReferenceDataCacheRegions.SERVICE_PACKAGES, 5_000L);
+        ENTITY_REGION_SIZES.put(ReferenceDataCacheRegions.EMAIL_TEMPLATES, 200L);
+        ENTITY_REGION_SIZES.put(ReferenceDataCacheRegions.SETTINGS, 2_000L);
+    }
+
+    @Value("${spring.jpa.second-level-cache.reference-ttl-seconds:600}")
+    private long referenceTtlSeconds;
+
+    @Value("${spring.jpa.second-level-cache.query-results-max-size:10000}")
+    private long queryResultsMaxSize;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(MeterRegistry meterRegistry) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+
+        ENTITY_REGION_SIZES.forEach((region, maxSize) ->
+                createRegion(cacheManager, meterRegistry, region, maxSize, referenceTtlSeconds));
+        createRegion(cacheManager, meterRegistry, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                queryResultsMaxSize, referenceTtlSeconds);
+        // Timestamps must outlive every cached query result, so they never expire
+        createRegion(cacheManager, meterRegistry, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                10_000L, 0);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, MeterRegistry meterRegistry,
+                              String region, long maxSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        configuration.setStatisticsEnabled(true);
+
+        Cache<Object, Object> cache = cacheManager.createCache(region, configuration);
+        JCacheMetrics.monitor(meterRegistry, cache, Tags.of("layer", "hibernate"));
+    }
+}
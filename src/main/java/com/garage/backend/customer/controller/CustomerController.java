@@ -4,6 +4,7 @@ import com.garage.backend.customer.dto.CreateCustomerRequest;
 import com.garage.backend.customer.dto.UpdateCustomerRequest;
 import com.garage.backend.customer.dto.CustomerResponse;
 import com.garage.backend.customer.service.CustomerService;
+import com.garage.backend.shared.pagination.CursorPage;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -178,6 +179,47 @@ public class CustomerController {
     }
 
 
+    /**
+     * Get customers using keyset (cursor) pagination and filtering
+     * 
+     * Scenario: Scroll Customers via API
+     *   Given a client wants to page through customers without OFFSET or total count
+     *   When they send a GET request with an optional cursor from the previous page
+     *   Then the system should return 200 OK with the next page and a new cursor
+     *   And sort by creation date descending
+     *   But if the cursor is malformed
+     *   Then the system should return 400 Bad Request
+     * 
+     * @param after Cursor returned as nextCursor by the previous page (omit for the first page)
+     * @param size Page size (default: 20, at most 100)
+     * @param customerName Customer name filter (partial match)
+     * @param vehicleRegistrationNumber Vehicle registration number filter (partial match)
+     * @param vehicleBrand Vehicle brand/make filter (partial match)
+     * @param date Specific date filter (yyyy-mm-dd)
+     * @param from Start date filter (yyyy-mm-dd)
+     * @param to End date filter (yyyy-mm-dd)
+     * @return ResponseEntity<CursorPage<CustomerResponse>> with the next page of customers
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<CustomerResponse>> getCustomersAfterCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String customerName,
+            @RequestParam(required = false) String vehicleRegistrationNumber,
+            @RequestParam(required = false) String vehicleBrand,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            CursorPage<CustomerResponse> response = customerService.getCustomersAfterCursor(after, size,
+                    customerName, vehicleRegistrationNumber, vehicleBrand, date, from, to);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 
     /**
      * Health check endpoint
@@ -0,0 +1,128 @@
+package com.garage.backend.customer.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.garage.backend.customer.entity.Customers;
+import com.garage.backend.vehicle.entity.Vehicles;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Composable JPA specifications for customer listing filters
+ *
+ * Each factory returns null when its filter is not set, so callers can chain
+ * them with Specification.where(...).and(...) and get a single SQL statement
+ * containing only the predicates that were actually requested.
+ */
+public final class CustomerSpecifications {
+
+    private CustomerSpecifications() {}
+
+    /**
+     * Customers whose name contains the given text (case insensitive)
+     * @param name customer name
+     * @return Specification<Customers> or null if no filter
+     */
+    public static Specification<Customers> nameContains(String name) {
+        if (isBlank(name)) {
+            return null;
+        }
+        String pattern = likePattern(name);
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern);
+    }
+
+    /**
+     * Customers owning at least one vehicle whose registration number contains the given text
+     * @param registrationNumber vehicle registration number
+     * @return Specification<Customers> or null if no filter
+     */
+    public static Specification<Customers> hasVehicleRegistration(String registrationNumber) {
+        return hasVehicleMatching("registrationNumber", registrationNumber);
+    }
+
+    /**
+     * Customers owning at least one vehicle whose make contains the given text
+     * @param make vehicle make/brand
+     * @return Specification<Customers> or null if no filter
+     */
+    public static Specification<Customers> hasVehicleMake(String make) {
+        return hasVehicleMatching("make", make);
+    }
+
+    /**
+     * Customers created within the given date range (both bounds inclusive, either may be null)
+     *
+     * Compares the raw created_at column against day boundaries instead of
+     * casting it to a date, so an index on created_at remains usable.
+     *
+     * @param fromDate start date
+     * @param toDate end date
+     * @return Specification<Customers> or null if no filter
+     */
+    public static Specification<Customers> createdBetween(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate == null && toDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (fromDate != null && toDate != null) {
+                return cb.and(
+                        cb.greaterThanOrEqualTo(root.get("createdAt"), fromDate.atStartOfDay()),
+                        cb.lessThan(root.get("createdAt"), toDate.plusDays(1).atStartOfDay()));
+            }
+            if (fromDate != null) {
+                return cb.greaterThanOrEqualTo(root.get("createdAt"), fromDate.atStartOfDay());
+            }
+            return cb.lessThan(root.get("createdAt"), toDate.plusDays(1).atStartOfDay());
+        };
+    }
+
+    /**
+     * Build the combined specification for the customer listing filters
+     *
+     * A single date takes precedence over the from/to range, matching the
+     * behaviour of the customer listing endpoint.
+     *
+     * @return Specification<Customers> combining every provided filter with AND
+     */
+    public static Specification<Customers> withFilters(String customerName, String vehicleRegistrationNumber,
+                                                       String vehicleBrand, LocalDate date,
+                                                       LocalDate fromDate, LocalDate toDate) {
+        LocalDate actualFromDate = date != null ? date : fromDate;
+        LocalDate actualToDate = date != null ? date : toDate;
+
+        return Specification.where(nameContains(customerName))
+                .and(hasVehicleRegistration(vehicleRegistrationNumber))
+                .and(hasVehicleMake(vehicleBrand))
+                .and(createdBetween(actualFromDate, actualToDate));
+    }
+
+    /**
+     * Correlated EXISTS on Vehicles so that customers with several matching
+     * vehicles are not duplicated and the count query needs no DISTINCT
+     */
+    private static Specification<Customers> hasVehicleMatching(String attribute, String value) {
+        if (isBlank(value)) {
+            return null;
+        }
+        String pattern = likePattern(value);
+        return (root, query, cb) -> {
+            Subquery<Integer> vehicles = query.subquery(Integer.class);
+            Root<Vehicles> vehicle = vehicles.from(Vehicles.class);
+            vehicles.select(cb.literal(1))
+                    .where(cb.equal(vehicle.get("customer").get("id"), root.get("id")),
+                           cb.like(cb.lower(vehicle.get(attribute)), pattern));
+            return cb.exists(vehicles);
+        };
+    }
+
+    private static String likePattern(String value) {
+        return "%" + value.trim().toLowerCase() + "%";
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -5,6 +5,7 @@ import com.garage.backend.customer.dto.UpdateCustomerRequest;
 import com.garage.backend.customer.dto.CustomerResponse;
 import com.garage.backend.customer.dto.VehicleSummaryResponse;
 import com.garage.backend.customer.entity.Customers;
+import com.garage.backend.customer.repository.CustomerSpecifications;
 import com.garage.backend.customer.repository.CustomersRepository;
 import com.garage.backend.vehicle.entity.Vehicles;
 import com.garage.backend.vehicle.repository.VehiclesRepository;
@@ -14,19 +15,28 @@ import com.garage.backend.authentication.entity.User;
 import com.garage.backend.authentication.repository.UserRepository;
 import com.garage.backend.address.entity.Addresses;
 import com.garage.backend.address.repository.AddressesRepository;
+import com.garage.backend.shared.pagination.CursorPage;
+import com.garage.backend.shared.pagination.KeysetCursor;
+import com.garage.backend.snapshot.service.DailySnapshotService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -60,6 +70,9 @@ public class CustomerService {
     @Autowired
     private AddressesRepository addressesRepository;
 
+    @Autowired
+    private DailySnapshotService dailySnapshotService;
+
     /**
      * Create a new customer with optional vehicle information
      * 
@@ -128,6 +141,7 @@ public class CustomerService {
 
         // Save customer to database
         Customers savedCustomer = customersRepository.save(customer);
+        dailySnapshotService.recordCreated(savedCustomer);
 
         // Create vehicle if vehicle info is provided
         if (request.getVehicleInfo() != null) {
@@ -247,142 +261,45 @@ public class CustomerService {
      *   Then the system should return filtered and paginated customer list
      *   And include total count and page information
      */
+    @Timed(value = "garage.service", extraTags = {"operation", "customers.list"}, histogram = true)
     @Transactional(readOnly = true)
     public Page<CustomerResponse> getAllCustomers(Pageable pageable, String customerName, 
                                                  String vehicleRegistrationNumber, String vehicleBrand, 
                                                  LocalDate date, LocalDate fromDate, LocalDate toDate) {
-        
-        try {
-            // Apply filters if any are provided
-            if (hasAnyFilter(customerName, vehicleRegistrationNumber, vehicleBrand, date, fromDate, toDate)) {
-                // For filtered results, get all matching customers and handle pagination manually
-                List<Customers> allFilteredCustomers = getFilteredCustomers(customerName, vehicleRegistrationNumber, vehicleBrand, date, fromDate, toDate);
-                
-                System.out.println("Filtered customers count: " + allFilteredCustomers.size());
-                
-                List<CustomerResponse> allCustomerResponses = allFilteredCustomers.stream()
-                        .map(this::convertToResponse)
-                        .collect(Collectors.toList());
-                
-                System.out.println("Customer responses count: " + allCustomerResponses.size());
-                
-                // Apply manual pagination for filtered results
-                int start = (int) pageable.getOffset();
-                int end = Math.min((start + pageable.getPageSize()), allCustomerResponses.size());
-                List<CustomerResponse> pageContent = allCustomerResponses.subList(start, end);
-                
-                System.out.println("Page content count: " + pageContent.size());
-                
-                return new PageImpl<>(pageContent, pageable, allCustomerResponses.size());
-            } else {
-                // No filters, use repository pagination directly (preserves total count)
-                Page<Customers> customersPage = customersRepository.findAll(pageable);
-                
-                List<CustomerResponse> customerResponses = customersPage.getContent().stream()
-                        .map(this::convertToResponse)
-                        .collect(Collectors.toList());
-                
-                return new PageImpl<>(customerResponses, pageable, customersPage.getTotalElements());
-            }
-        } catch (Exception e) {
-            System.err.println("Error in getAllCustomers: " + e.getMessage());
-            e.printStackTrace();
-            throw e;
-        }
+        // Filters are combined into a single query, so pagination and the total
+        // count are both computed by the database (LIMIT/OFFSET plus a COUNT)
+        Specification<Customers> spec = CustomerSpecifications.withFilters(
+                customerName, vehicleRegistrationNumber, vehicleBrand, date, fromDate, toDate);
+        Page<Customers> customersPage = customersRepository.findAll(spec, pageable);
+
+        List<CustomerResponse> customerResponses = convertToResponses(customersPage.getContent());
+
+        return new PageImpl<>(customerResponses, pageable, customersPage.getTotalElements());
     }
 
     /**
-     * Get filtered customers based on provided criteria
+     * Get customers using keyset (cursor) pagination and optional filtering
      * 
-     * Scenario: Filter Customers by Multiple Criteria
-     *   Given a garage owner wants to filter customers
-     *   When they provide filter criteria
-     *   Then the system should return matching customers
-     *   And combine filters with AND logic
+     * Scenario: Scroll Customers with a Cursor
+     *   Given a client is paging deep into a large customer list
+     *   When they request a page after a cursor returned by the previous page
+     *   Then the system should seek directly past that cursor via (createdAt, id)
+     *   And return the next page with a new cursor but without a total count
      */
     @Transactional(readOnly = true)
-    private List<Customers> getFilteredCustomers(String customerName, String vehicleRegistrationNumber, 
-                                                String vehicleBrand, LocalDate date, LocalDate fromDate, LocalDate toDate) {
-        // Handle single date vs date range
-        LocalDate actualFromDate = date != null ? date : fromDate;
-        LocalDate actualToDate = date != null ? date : toDate;
-        
-        // Start with all customers
-        List<Customers> result = customersRepository.findAll();
-        
-        // Apply name filter
-        if (customerName != null && !customerName.trim().isEmpty()) {
-            List<Customers> nameFiltered = customersRepository.findByNameFilter(customerName);
-            result = result.stream()
-                    .filter(nameFiltered::contains)
-                    .collect(Collectors.toList());
-        }
-        
-        // Apply vehicle registration filter
-        if (vehicleRegistrationNumber != null && !vehicleRegistrationNumber.trim().isEmpty()) {
-            List<Customers> regFiltered = customersRepository.findByVehicleRegistrationFilter(vehicleRegistrationNumber);
-            result = result.stream()
-                    .filter(regFiltered::contains)
-                    .collect(Collectors.toList());
-        }
-        
-        // Apply vehicle make filter
-        if (vehicleBrand != null && !vehicleBrand.trim().isEmpty()) {
-            List<Customers> makeFiltered = customersRepository.findByVehicleMakeFilter(vehicleBrand);
-            result = result.stream()
-                    .filter(makeFiltered::contains)
-                    .collect(Collectors.toList());
-        }
-        
-        // Apply date range filter - this is the key fix
-        if (actualFromDate != null || actualToDate != null) {
-            System.out.println("Applying date filter. Date: " + date + ", FromDate: " + fromDate + ", ToDate: " + toDate);
-            System.out.println("Actual from date: " + actualFromDate + ", Actual to date: " + actualToDate);
-            System.out.println("Customers before date filter: " + result.size());
-            
-            // For a single date filter, we need to check if the customer was created on that specific date
-            if (date != null) {
-                // Single date filter - check if customer was created on this exact date
-                result = result.stream()
-                        .filter(customer -> {
-                            LocalDateTime createdAt = customer.getCreatedAt();
-                            boolean matches = createdAt != null && createdAt.toLocalDate().equals(date);
-                            if (matches) {
-                                System.out.println("Customer " + customer.getName() + " matches date " + date + " (created: " + createdAt.toLocalDate() + ")");
-                            }
-                            return matches;
-                        })
-                        .collect(Collectors.toList());
-            } else {
-                // Date range filter
-                LocalDate filterFromDate = actualFromDate != null ? actualFromDate : LocalDate.of(1900, 1, 1);
-                LocalDate filterToDate = actualToDate != null ? actualToDate : LocalDate.of(2100, 12, 31);
-                
-                result = result.stream()
-                        .filter(customer -> {
-                            LocalDateTime createdAt = customer.getCreatedAt();
-                            if (createdAt == null) return false;
-                            LocalDate customerDate = createdAt.toLocalDate();
-                            return !customerDate.isBefore(filterFromDate) && !customerDate.isAfter(filterToDate);
-                        })
-                        .collect(Collectors.toList());
-            }
-            
-            System.out.println("Customers after date filter: " + result.size());
-        }
-        
-        return result;
-    }
-
-    /**
-     * Check if any filter parameters are provided
-     */
-    private boolean hasAnyFilter(String customerName, String vehicleRegistrationNumber, String vehicleBrand, 
-                                LocalDate date, LocalDate fromDate, LocalDate toDate) {
-        return (customerName != null && !customerName.trim().isEmpty()) ||
-               (vehicleRegistrationNumber != null && !vehicleRegistrationNumber.trim().isEmpty()) ||
-               (vehicleBrand != null && !vehicleBrand.trim().isEmpty()) ||
-               date != null || fromDate != null || toDate != null;
+    public CursorPage<CustomerResponse> getCustomersAfterCursor(String after, int size, String customerName,
+                                                               String vehicleRegistrationNumber, String vehicleBrand,
+                                                               LocalDate date, LocalDate fromDate, LocalDate toDate) {
+        Specification<Customers> spec = CustomerSpecifications.withFilters(
+                customerName, vehicleRegistrationNumber, vehicleBrand, date, fromDate, toDate);
+        ScrollPosition position = KeysetCursor.toScrollPosition(after, "createdAt");
+
+        Window<Customers> window = customersRepository.findBy(spec, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                .limit(CursorPage.effectiveSize(size))
+                .scroll(position));
+
+        return CursorPage.of(window, "createdAt", convertToResponses(window.getContent()));
     }
 
     /**
@@ -465,6 +382,43 @@ public class CustomerService {
     private CustomerResponse convertToResponse(Customers customer) {
         // Get vehicles for this customer
         List<Vehicles> vehicles = vehiclesRepository.findByCustomerId(customer.getId());
+        return convertToResponse(customer, vehicles);
+    }
+
+    /**
+     * Convert a batch of Customer entities to CustomerResponse DTOs
+     * 
+     * Loads the vehicles for all customers with a single IN query and groups
+     * them in memory, instead of issuing one vehicle query per customer.
+     * 
+     * @param customers Customer entities
+     * @return List<CustomerResponse> in the same order as the input
+     */
+    private List<CustomerResponse> convertToResponses(List<Customers> customers) {
+        if (customers.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<UUID> customerIds = customers.stream()
+                .map(Customers::getId)
+                .collect(Collectors.toList());
+        Map<UUID, List<Vehicles>> vehiclesByCustomer = vehiclesRepository.findByCustomerIdIn(customerIds).stream()
+                .collect(Collectors.groupingBy(vehicle -> vehicle.getCustomer().getId()));
+
+        return customers.stream()
+                .map(customer -> convertToResponse(customer,
+                        vehiclesByCustomer.getOrDefault(customer.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convert Customer entity and its already loaded vehicles to CustomerResponse DTO
+     * 
+     * @param customer Customer entity
+     * @param vehicles Vehicles belonging to the customer
+     * @return CustomerResponse DTO
+     */
+    private CustomerResponse convertToResponse(Customers customer, List<Vehicles> vehicles) {
         List<VehicleSummaryResponse> vehicleSummaries = vehicles.stream()
                 .map(this::convertToVehicleSummary)
                 .collect(Collectors.toList());
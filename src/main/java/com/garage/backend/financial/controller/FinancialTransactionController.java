@@ -1,21 +1,35 @@
 package com.garage.backend.financial.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.garage.backend.financial.dto.BulkTransactionResponse;
 import com.garage.backend.financial.dto.CreateIncomeTransactionRequest;
 import com.garage.backend.financial.dto.CreateExpenseTransactionRequest;
 import com.garage.backend.financial.dto.FinancialTransactionResponse;
 import com.garage.backend.financial.dto.MoneyDataResponse;
 import com.garage.backend.financial.service.FinancialTransactionService;
+import com.garage.backend.financial.service.TransactionExportFormat;
+import com.garage.backend.shared.pagination.CursorPage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/admin/financial-transactions")
@@ -25,6 +39,11 @@ public class FinancialTransactionController {
     @Autowired
     private FinancialTransactionService financialTransactionService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final int EXPORT_GZIP_BUFFER_SIZE = 8 * 1024;
+
     /**
      * Get money data for dashboard
      * @return MoneyDataResponse
@@ -75,6 +94,80 @@ public class FinancialTransactionController {
         }
     }
 
+    /**
+     * Create income transactions in bulk from a JSON array
+     * @param requests income transaction requests
+     * @return BulkTransactionResponse with one result per row
+     */
+    @PostMapping(value = "/income/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkTransactionResponse> createIncomeTransactions(
+            @RequestBody List<CreateIncomeTransactionRequest> requests) {
+        try {
+            BulkTransactionResponse response = financialTransactionService.createIncomeTransactions(requests.iterator());
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Create income transactions in bulk from newline-delimited JSON, read as it arrives
+     * @param request HTTP request carrying one income transaction request per line
+     * @return BulkTransactionResponse with one result per row
+     */
+    @PostMapping(value = "/income/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkTransactionResponse> streamIncomeTransactions(HttpServletRequest request) {
+        try (MappingIterator<CreateIncomeTransactionRequest> rows = objectMapper
+                .readerFor(CreateIncomeTransactionRequest.class)
+                .readValues(request.getInputStream())) {
+            BulkTransactionResponse response = financialTransactionService.createIncomeTransactions(rows);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException | JsonProcessingException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Create expense transactions in bulk from a JSON array
+     * @param requests expense transaction requests
+     * @return BulkTransactionResponse with one result per row
+     */
+    @PostMapping(value = "/expense/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkTransactionResponse> createExpenseTransactions(
+            @RequestBody List<CreateExpenseTransactionRequest> requests) {
+        try {
+            BulkTransactionResponse response = financialTransactionService.createExpenseTransactions(requests.iterator());
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Create expense transactions in bulk from newline-delimited JSON, read as it arrives
+     * @param request HTTP request carrying one expense transaction request per line
+     * @return BulkTransactionResponse with one result per row
+     */
+    @PostMapping(value = "/expense/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkTransactionResponse> streamExpenseTransactions(HttpServletRequest request) {
+        try (MappingIterator<CreateExpenseTransactionRequest> rows = objectMapper
+                .readerFor(CreateExpenseTransactionRequest.class)
+                .readValues(request.getInputStream())) {
+            BulkTransactionResponse response = financialTransactionService.createExpenseTransactions(rows);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException | JsonProcessingException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * Update expense transaction
      * @param id transaction ID
@@ -126,6 +219,110 @@ public class FinancialTransactionController {
         }
     }
 
+    /**
+     * Get transactions using keyset (cursor) pagination and filtering
+     * @param after cursor returned as nextCursor by the previous page (omit for the first page)
+     * @param size page size (default: 20, at most 100)
+     * @param transactionType transaction type filter (INCOME/EXPENSE)
+     * @param fromDate start date filter
+     * @param toDate end date filter
+     * @param paymentMethod payment method filter
+     * @param transactionStatus transaction status filter
+     * @param expenseCategory expense category filter
+     * @return CursorPage<FinancialTransactionResponse>
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<FinancialTransactionResponse>> getTransactionsAfterCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String transactionType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) String paymentMethod,
+            @RequestParam(required = false) String transactionStatus,
+            @RequestParam(required = false) String expenseCategory) {
+        try {
+            CursorPage<FinancialTransactionResponse> response = financialTransactionService.getTransactionsAfterCursor(
+                    after, size, transactionType, fromDate, toDate, paymentMethod, transactionStatus, expenseCategory);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Export transactions as CSV or NDJSON, streamed straight to the response
+     *
+     * Accepts the same filters as the listing endpoint. The body is gzip
+     * compressed when the client sends Accept-Encoding: gzip. An unknown format
+     * or a fromDate after toDate is rejected with 400; any other failure before
+     * the first flush is left to GlobalExceptionHandler.
+     *
+     * @param format export format (CSV/NDJSON, default: CSV)
+     * @param transactionType transaction type filter (INCOME/EXPENSE)
+     * @param fromDate start date filter
+     * @param toDate end date filter
+     * @param paymentMethod payment method filter
+     * @param transactionStatus transaction status filter
+     * @param expenseCategory expense category filter
+     * @param request HTTP request, used for content negotiation
+     * @param response HTTP response the rows are written to
+     */
+    @GetMapping("/export")
+    public void exportTransactions(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String transactionType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) String paymentMethod,
+            @RequestParam(required = false) String transactionStatus,
+            @RequestParam(required = false) String expenseCategory,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        TransactionExportFormat exportFormat;
+        try {
+            exportFormat = TransactionExportFormat.fromString(format);
+        } catch (RuntimeException e) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"transactions." + exportFormat.getFileExtension() + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        OutputStream out = gzip ? new GZIPOutputStream(response.getOutputStream(), EXPORT_GZIP_BUFFER_SIZE)
+                                : response.getOutputStream();
+        try {
+            financialTransactionService.exportTransactions(exportFormat, transactionType, fromDate, toDate,
+                    paymentMethod, transactionStatus, expenseCategory, out);
+        } catch (RuntimeException e) {
+            // Drop the export headers and any buffered bytes so the error handler can write its own response
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+        if (gzip) {
+            ((GZIPOutputStream) out).finish();
+        }
+        out.flush();
+    }
+
     /**
      * Get today's transactions by type
      * @param transactionType transaction type (INCOME/EXPENSE)
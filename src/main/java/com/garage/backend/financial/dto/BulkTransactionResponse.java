@@ -0,0 +1,62 @@
+package com.garage.backend.financial.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkTransactionResponse {
+
+    private int received;
+    private int created;
+    private int rejected;
+    private List<BulkTransactionResult> results = new ArrayList<>();
+
+    // Constructors
+    public BulkTransactionResponse() {}
+
+    /**
+     * Record the outcome of one input row
+     * @param result row result
+     */
+    public void addResult(BulkTransactionResult result) {
+        results.add(result);
+        received++;
+        if (BulkTransactionResult.STATUS_CREATED.equals(result.getStatus())) {
+            created++;
+        } else {
+            rejected++;
+        }
+    }
+
+    // Getters and Setters
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<BulkTransactionResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkTransactionResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,65 @@
+package com.garage.backend.financial.dto;
+
+import java.util.UUID;
+
+public class BulkTransactionResult {
+
+    public static final String STATUS_CREATED = "CREATED";
+    public static final String STATUS_REJECTED = "REJECTED";
+
+    private int index;
+    private String status;
+    private UUID transactionId;
+    private String error;
+
+    // Constructors
+    public BulkTransactionResult() {}
+
+    public BulkTransactionResult(int index, String status, UUID transactionId, String error) {
+        this.index = index;
+        this.status = status;
+        this.transactionId = transactionId;
+        this.error = error;
+    }
+
+    public static BulkTransactionResult created(int index, UUID transactionId) {
+        return new BulkTransactionResult(index, STATUS_CREATED, transactionId, null);
+    }
+
+    public static BulkTransactionResult rejected(int index, String error) {
+        return new BulkTransactionResult(index, STATUS_REJECTED, null, error);
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public UUID getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(UUID transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
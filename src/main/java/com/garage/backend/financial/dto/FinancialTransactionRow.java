@@ -0,0 +1,203 @@
+package com.garage.backend.financial.dto;
+
+import com.garage.backend.shared.enums.Enums;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flat read model for transaction listings
+ *
+ * Populated by a JPQL constructor expression that left-joins the customer,
+ * vehicle, job card and creating staff member, so a whole page is read with
+ * one statement instead of one lazy load per association per row.
+ */
+public class FinancialTransactionRow {
+
+    private final UUID id;
+    private final BigDecimal amount;
+    private final Enums.TransactionType transactionType;
+    private final LocalDateTime transactionDate;
+    private final LocalDate transactionDateOnly;
+    private final String description;
+    private final String status;
+    private final String referenceNumber;
+    private final String notes;
+    private final LocalDateTime createdAt;
+    private final Enums.PaymentMethod paymentMethod;
+    private final Enums.ExpenseCategory expenseCategory;
+    private final String vendorName;
+    private final String vendorContact;
+
+    private final UUID customerId;
+    private final String customerName;
+    private final String customerPhone;
+
+    private final UUID vehicleId;
+    private final String vehicleRegistrationNumber;
+    private final String vehicleMake;
+    private final String vehicleModel;
+
+    private final UUID jobCardId;
+    private final String jobNumber;
+    private final String jobCardStatus;
+
+    private final UUID staffId;
+    private final String staffFirstName;
+    private final String staffLastName;
+    private final Enums.StaffRole staffRole;
+
+    public FinancialTransactionRow(UUID id, BigDecimal amount, Enums.TransactionType transactionType,
+                                   LocalDateTime transactionDate, LocalDate transactionDateOnly,
+                                   String description, String status, String referenceNumber, String notes,
+                                   LocalDateTime createdAt, Enums.PaymentMethod paymentMethod,
+                                   Enums.ExpenseCategory expenseCategory, String vendorName, String vendorContact,
+                                   UUID customerId, String customerName, String customerPhone,
+                                   UUID vehicleId, String vehicleRegistrationNumber, String vehicleMake, String vehicleModel,
+                                   UUID jobCardId, String jobNumber, String jobCardStatus,
+                                   UUID staffId, String staffFirstName, String staffLastName, Enums.StaffRole staffRole) {
+        this.id = id;
+        this.amount = amount;
+        this.transactionType = transactionType;
+        this.transactionDate = transactionDate;
+        this.transactionDateOnly = transactionDateOnly;
+        this.description = description;
+        this.status = status;
+        this.referenceNumber = referenceNumber;
+        this.notes = notes;
+        this.createdAt = createdAt;
+        this.paymentMethod = paymentMethod;
+        this.expenseCategory = expenseCategory;
+        this.vendorName = vendorName;
+        this.vendorContact = vendorContact;
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.customerPhone = customerPhone;
+        this.vehicleId = vehicleId;
+        this.vehicleRegistrationNumber = vehicleRegistrationNumber;
+        this.vehicleMake = vehicleMake;
+        this.vehicleModel = vehicleModel;
+        this.jobCardId = jobCardId;
+        this.jobNumber = jobNumber;
+        this.jobCardStatus = jobCardStatus;
+        this.staffId = staffId;
+        this.staffFirstName = staffFirstName;
+        this.staffLastName = staffLastName;
+        this.staffRole = staffRole;
+    }
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public Enums.TransactionType getTransactionType() {
+        return transactionType;
+    }
+
+    public LocalDateTime getTransactionDate() {
+        return transactionDate;
+    }
+
+    public LocalDate getTransactionDateOnly() {
+        return transactionDateOnly;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getReferenceNumber() {
+        return referenceNumber;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Enums.PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public Enums.ExpenseCategory getExpenseCategory() {
+        return expenseCategory;
+    }
+
+    public String getVendorName() {
+        return vendorName;
+    }
+
+    public String getVendorContact() {
+        return vendorContact;
+    }
+
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getCustomerPhone() {
+        return customerPhone;
+    }
+
+    public UUID getVehicleId() {
+        return vehicleId;
+    }
+
+    public String getVehicleRegistrationNumber() {
+        return vehicleRegistrationNumber;
+    }
+
+    public String getVehicleMake() {
+        return vehicleMake;
+    }
+
+    public String getVehicleModel() {
+        return vehicleModel;
+    }
+
+    public UUID getJobCardId() {
+        return jobCardId;
+    }
+
+    public String getJobNumber() {
+        return jobNumber;
+    }
+
+    public String getJobCardStatus() {
+        return jobCardStatus;
+    }
+
+    public UUID getStaffId() {
+        return staffId;
+    }
+
+    public String getStaffFirstName() {
+        return staffFirstName;
+    }
+
+    public String getStaffLastName() {
+        return staffLastName;
+    }
+
+    public Enums.StaffRole getStaffRole() {
+        return staffRole;
+    }
+}
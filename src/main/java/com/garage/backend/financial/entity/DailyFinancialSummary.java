@@ -0,0 +1,110 @@
+package com.garage.backend.financial.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Incrementally maintained per-day totals of financial transactions
+ *
+ * Rows are upserted in the same transaction that creates or updates a
+ * Transactions row, so the dashboard reads one row instead of aggregating
+ * the transactions table. The table is created by db/migration, not ddl-auto.
+ */
+@Entity
+@Table(name = "Daily_Financial_Summary",
+       uniqueConstraints = @UniqueConstraint(name = "uk_daily_financial_summary_date", columnNames = "summary_date"))
+public class DailyFinancialSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", columnDefinition = "UUID")
+    private UUID id;
+
+    @NotNull(message = "Summary date is required")
+    @Column(name = "summary_date", nullable = false)
+    private LocalDate summaryDate;
+
+    @NotNull(message = "Income received is required")
+    @Column(name = "income_received", nullable = false, precision = 15, scale = 2)
+    private BigDecimal incomeReceived = BigDecimal.ZERO;
+
+    @NotNull(message = "Expenses paid is required")
+    @Column(name = "expenses_paid", nullable = false, precision = 15, scale = 2)
+    private BigDecimal expensesPaid = BigDecimal.ZERO;
+
+    @NotNull(message = "Pending income is required")
+    @Column(name = "pending_income", nullable = false, precision = 15, scale = 2)
+    private BigDecimal pendingIncome = BigDecimal.ZERO;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public DailyFinancialSummary() {}
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public LocalDate getSummaryDate() {
+        return summaryDate;
+    }
+
+    public void setSummaryDate(LocalDate summaryDate) {
+        this.summaryDate = summaryDate;
+    }
+
+    public BigDecimal getIncomeReceived() {
+        return incomeReceived;
+    }
+
+    public void setIncomeReceived(BigDecimal incomeReceived) {
+        this.incomeReceived = incomeReceived;
+    }
+
+    public BigDecimal getExpensesPaid() {
+        return expensesPaid;
+    }
+
+    public void setExpensesPaid(BigDecimal expensesPaid) {
+        this.expensesPaid = expensesPaid;
+    }
+
+    public BigDecimal getPendingIncome() {
+        return pendingIncome;
+    }
+
+    public void setPendingIncome(BigDecimal pendingIncome) {
+        this.pendingIncome = pendingIncome;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "DailyFinancialSummary{" +
+                "id=" + id +
+                ", summaryDate=" + summaryDate +
+                ", incomeReceived=" + incomeReceived +
+                ", expensesPaid=" + expensesPaid +
+                ", pendingIncome=" + pendingIncome +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
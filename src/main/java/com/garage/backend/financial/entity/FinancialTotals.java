@@ -0,0 +1,72 @@
+package com.garage.backend.financial.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Running totals across all days, kept in a single row (SINGLETON_ID)
+ *
+ * Maintained by DailyFinancialSummaryService alongside the per-day rows, so
+ * totals that span every day are read in O(1) instead of summing
+ * Daily_Financial_Summary. The table is created by db/migration, not ddl-auto.
+ */
+@Entity
+@Table(name = "Financial_Totals")
+public class FinancialTotals {
+
+    /**
+     * id of the only row
+     */
+    public static final short SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Short id;
+
+    @NotNull(message = "Pending income is required")
+    @Column(name = "pending_income", nullable = false, precision = 15, scale = 2)
+    private BigDecimal pendingIncome = BigDecimal.ZERO;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public FinancialTotals() {}
+
+    // Getters and Setters
+    public Short getId() {
+        return id;
+    }
+
+    public void setId(Short id) {
+        this.id = id;
+    }
+
+    public BigDecimal getPendingIncome() {
+        return pendingIncome;
+    }
+
+    public void setPendingIncome(BigDecimal pendingIncome) {
+        this.pendingIncome = pendingIncome;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "FinancialTotals{" +
+                "id=" + id +
+                ", pendingIncome=" + pendingIncome +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -16,6 +16,12 @@ import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.UUID;
 
+/**
+ * Financial transaction (income or expense)
+ *
+ * The table and its indexes are created by db/migration, not ddl-auto; keep
+ * the migrations in step when changing the mapping.
+ */
 @Entity
 @Table(name = "Transactions")
 @EntityListeners(AuditingEntityListener.class)
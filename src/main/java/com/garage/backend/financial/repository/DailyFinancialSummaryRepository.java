@@ -0,0 +1,45 @@
+package com.garage.backend.financial.repository;
+
+import com.garage.backend.financial.entity.DailyFinancialSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface DailyFinancialSummaryRepository extends JpaRepository<DailyFinancialSummary, UUID> {
+
+    /**
+     * Find the summary row for a day
+     * @param summaryDate day
+     * @return Optional<DailyFinancialSummary>
+     */
+    Optional<DailyFinancialSummary> findBySummaryDate(LocalDate summaryDate);
+
+    /**
+     * Atomically add deltas to a day's totals, creating the row if needed
+     * @param summaryDate day
+     * @param incomeReceived completed income delta
+     * @param expensesPaid completed expense delta
+     * @param pendingIncome pending income delta
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_financial_summary (id, summary_date, income_received, expenses_paid, pending_income, updated_at) " +
+                   "VALUES (gen_random_uuid(), :summaryDate, :incomeReceived, :expensesPaid, :pendingIncome, NOW()) " +
+                   "ON CONFLICT (summary_date) DO UPDATE SET " +
+                   "income_received = daily_financial_summary.income_received + EXCLUDED.income_received, " +
+                   "expenses_paid = daily_financial_summary.expenses_paid + EXCLUDED.expenses_paid, " +
+                   "pending_income = daily_financial_summary.pending_income + EXCLUDED.pending_income, " +
+                   "updated_at = NOW()",
+           nativeQuery = true)
+    void addToDay(@Param("summaryDate") LocalDate summaryDate,
+                  @Param("incomeReceived") BigDecimal incomeReceived,
+                  @Param("expensesPaid") BigDecimal expensesPaid,
+                  @Param("pendingIncome") BigDecimal pendingIncome);
+}
@@ -0,0 +1,34 @@
+package com.garage.backend.financial.repository;
+
+import com.garage.backend.financial.entity.FinancialTotals;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+@Repository
+public interface FinancialTotalsRepository extends JpaRepository<FinancialTotals, Short> {
+
+    /**
+     * Get total pending income across all days
+     * @return BigDecimal total pending income, zero before anything was recorded
+     */
+    @Query("SELECT COALESCE(MAX(t.pendingIncome), 0) FROM FinancialTotals t WHERE t.id = 1")
+    BigDecimal getTotalPendingIncome();
+
+    /**
+     * Atomically add a delta to the running pending income, creating the row if needed
+     * @param pendingIncome pending income delta
+     */
+    @Modifying
+    @Query(value = "INSERT INTO financial_totals (id, pending_income, updated_at) " +
+                   "VALUES (1, :pendingIncome, NOW()) " +
+                   "ON CONFLICT (id) DO UPDATE SET " +
+                   "pending_income = financial_totals.pending_income + EXCLUDED.pending_income, " +
+                   "updated_at = NOW()",
+           nativeQuery = true)
+    void addPendingIncome(@Param("pendingIncome") BigDecimal pendingIncome);
+}
@@ -0,0 +1,66 @@
+package com.garage.backend.financial.repository;
+
+import com.garage.backend.financial.entity.Transactions;
+import com.garage.backend.shared.enums.Enums;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Composable JPA specifications mirroring the filters of
+ * {@link TransactionsRepository#findWithFilters}
+ *
+ * Each factory returns null when its filter is not set so that only the
+ * requested predicates end up in the generated SQL.
+ */
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {}
+
+    public static Specification<Transactions> hasType(Enums.TransactionType transactionType) {
+        return transactionType == null ? null
+                : (root, query, cb) -> cb.equal(root.get("transactionType"), transactionType);
+    }
+
+    public static Specification<Transactions> dateOnOrAfter(LocalDate startDate) {
+        return startDate == null ? null
+                : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("transactionDateOnly"), startDate);
+    }
+
+    public static Specification<Transactions> dateOnOrBefore(LocalDate endDate) {
+        return endDate == null ? null
+                : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("transactionDateOnly"), endDate);
+    }
+
+    public static Specification<Transactions> hasPaymentMethod(Enums.PaymentMethod paymentMethod) {
+        return paymentMethod == null ? null
+                : (root, query, cb) -> cb.equal(root.get("paymentMethod"), paymentMethod);
+    }
+
+    public static Specification<Transactions> hasStatus(String status) {
+        return status == null || status.isEmpty() ? null
+                : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Transactions> hasExpenseCategory(Enums.ExpenseCategory expenseCategory) {
+        return expenseCategory == null ? null
+                : (root, query, cb) -> cb.equal(root.get("expenseCategory"), expenseCategory);
+    }
+
+    /**
+     * Combine every provided transaction filter with AND
+     * @return Specification<Transactions>
+     */
+    public static Specification<Transactions> withFilters(Enums.TransactionType transactionType,
+                                                          LocalDate startDate, LocalDate endDate,
+                                                          Enums.PaymentMethod paymentMethod,
+                                                          String transactionStatus,
+                                                          Enums.ExpenseCategory expenseCategory) {
+        return Specification.where(hasType(transactionType))
+                .and(dateOnOrAfter(startDate))
+                .and(dateOnOrBefore(endDate))
+                .and(hasPaymentMethod(paymentMethod))
+                .and(hasStatus(transactionStatus))
+                .and(hasExpenseCategory(expenseCategory));
+    }
+}
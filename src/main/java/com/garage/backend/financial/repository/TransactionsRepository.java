@@ -1,11 +1,16 @@
 package com.garage.backend.financial.repository;
 
+import com.garage.backend.financial.dto.FinancialTransactionRow;
 import com.garage.backend.financial.entity.Transactions;
 import com.garage.backend.shared.enums.Enums;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,9 +19,33 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TransactionsRepository extends JpaRepository<Transactions, UUID> {
+public interface TransactionsRepository extends JpaRepository<Transactions, UUID>, JpaSpecificationExecutor<Transactions> {
+
+    /**
+     * Constructor expression for {@link FinancialTransactionRow}; requires {@link #ROW_JOINS}
+     */
+    String ROW_PROJECTION = "new com.garage.backend.financial.dto.FinancialTransactionRow(" +
+           "t.id, t.amount, t.transactionType, t.transactionDate, t.transactionDateOnly, " +
+           "t.description, t.status, t.referenceNumber, t.notes, t.createdAt, " +
+           "t.paymentMethod, t.expenseCategory, t.vendorName, t.vendorContact, " +
+           "c.id, c.name, c.phone, " +
+           "v.id, v.registrationNumber, v.make, v.model, " +
+           "j.id, j.jobNumber, j.status, " +
+           "s.id, s.firstName, s.lastName, s.role)";
+
+    /**
+     * Rows fetched per round trip when streaming exports
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * Outer joins backing {@link #ROW_PROJECTION}
+     */
+    String ROW_JOINS = "LEFT JOIN t.customer c LEFT JOIN t.vehicle v " +
+           "LEFT JOIN t.jobCard j LEFT JOIN t.createdBy s ";
 
     /**
      * Get today's income (completed transactions)
@@ -24,7 +53,7 @@ public interface TransactionsRepository extends JpaRepository<Transactions, UUID
      */
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transactions t " +
            "WHERE t.transactionType = 'INCOME' AND t.status = 'COMPLETED' " +
-           "AND CAST(t.transactionDate AS date) = CURRENT_DATE")
+           "AND t.transactionDateOnly = CURRENT_DATE")
     BigDecimal getTodayIncome();
 
     /**
@@ -33,7 +62,7 @@ public interface TransactionsRepository extends JpaRepository<Transactions, UUID
      */
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transactions t " +
            "WHERE t.transactionType = 'EXPENSE' AND t.status = 'COMPLETED' " +
-           "AND CAST(t.transactionDate AS date) = CURRENT_DATE")
+           "AND t.transactionDateOnly = CURRENT_DATE")
     BigDecimal getTodayExpenses();
 
     /**
@@ -56,6 +85,23 @@ public interface TransactionsRepository extends JpaRepository<Transactions, UUID
     List<Transactions> getRecentTransactions(@Param("startDate") LocalDateTime startDate, 
                                            @Param("endDate") LocalDateTime endDate);
 
+    /**
+     * Get the most recent transactions in a date range with their customer,
+     * vehicle, job card and creator fetched in the same query
+     * @param startDate start date
+     * @param endDate end date
+     * @param pageable limit on the number of rows
+     * @return List<Transactions> recent transactions
+     */
+    @Query("SELECT t FROM Transactions t " +
+           "LEFT JOIN FETCH t.customer LEFT JOIN FETCH t.vehicle " +
+           "LEFT JOIN FETCH t.jobCard LEFT JOIN FETCH t.createdBy " +
+           "WHERE t.transactionDate >= :startDate AND t.transactionDate <= :endDate " +
+           "ORDER BY t.transactionDate DESC")
+    List<Transactions> findRecentWithDetails(@Param("startDate") LocalDateTime startDate,
+                                             @Param("endDate") LocalDateTime endDate,
+                                             Pageable pageable);
+
     /**
      * Get customer payment history
      * @param customerId customer ID
@@ -90,7 +136,7 @@ public interface TransactionsRepository extends JpaRepository<Transactions, UUID
      */
     @Query("SELECT t FROM Transactions t " +
            "WHERE t.transactionType = :transactionType " +
-           "AND CAST(t.transactionDate AS date) = CURRENT_DATE " +
+           "AND t.transactionDateOnly = CURRENT_DATE " +
            "ORDER BY t.transactionDate DESC")
     List<Transactions> findByTransactionTypeAndToday(@Param("transactionType") String transactionType);
 
@@ -128,14 +174,50 @@ public interface TransactionsRepository extends JpaRepository<Transactions, UUID
      */
     @Query("SELECT t FROM Transactions t " +
            "WHERE (:transactionType IS NULL OR t.transactionType = :transactionType) " +
-           "AND (:startDate IS NULL OR t.transactionDateOnly >= :startDate) " +
-           "AND (:endDate IS NULL OR t.transactionDateOnly <= :endDate) " +
+           "AND (CAST(:startDate AS LocalDate) IS NULL OR t.transactionDateOnly >= :startDate) " +
+           "AND (CAST(:endDate AS LocalDate) IS NULL OR t.transactionDateOnly <= :endDate) " +
            "AND (:paymentMethod IS NULL OR t.paymentMethod = :paymentMethod) " +
            "AND (:transactionStatus IS NULL OR t.status = :transactionStatus) " +
            "AND (:expenseCategory IS NULL OR t.expenseCategory = :expenseCategory) " +
            "ORDER BY t.transactionDate DESC")
     Page<Transactions> findWithFilters(
-            @Param("transactionType") String transactionType,
+            @Param("transactionType") Enums.TransactionType transactionType,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("paymentMethod") Enums.PaymentMethod paymentMethod,
+            @Param("transactionStatus") String transactionStatus,
+            @Param("expenseCategory") Enums.ExpenseCategory expenseCategory,
+            Pageable pageable);
+
+    /**
+     * Get transaction rows with multiple filters, reading the customer, vehicle,
+     * job card and creator summaries through joins in the same statement
+     * @param transactionType transaction type
+     * @param startDate start date
+     * @param endDate end date
+     * @param paymentMethod payment method
+     * @param transactionStatus transaction status
+     * @param expenseCategory expense category
+     * @param pageable pagination
+     * @return Page<FinancialTransactionRow> filtered transaction rows
+     */
+    @Query(value = "SELECT " + ROW_PROJECTION + " FROM Transactions t " + ROW_JOINS +
+           "WHERE (:transactionType IS NULL OR t.transactionType = :transactionType) " +
+           "AND (CAST(:startDate AS LocalDate) IS NULL OR t.transactionDateOnly >= :startDate) " +
+           "AND (CAST(:endDate AS LocalDate) IS NULL OR t.transactionDateOnly <= :endDate) " +
+           "AND (:paymentMethod IS NULL OR t.paymentMethod = :paymentMethod) " +
+           "AND (:transactionStatus IS NULL OR t.status = :transactionStatus) " +
+           "AND (:expenseCategory IS NULL OR t.expenseCategory = :expenseCategory) " +
+           "ORDER BY t.transactionDate DESC",
+           countQuery = "SELECT COUNT(t) FROM Transactions t " +
+           "WHERE (:transactionType IS NULL OR t.transactionType = :transactionType) " +
+           "AND (CAST(:startDate AS LocalDate) IS NULL OR t.transactionDateOnly >= :startDate) " +
+           "AND (CAST(:endDate AS LocalDate) IS NULL OR t.transactionDateOnly <= :endDate) " +
+           "AND (:paymentMethod IS NULL OR t.paymentMethod = :paymentMethod) " +
+           "AND (:transactionStatus IS NULL OR t.status = :transactionStatus) " +
+           "AND (:expenseCategory IS NULL OR t.expenseCategory = :expenseCategory)")
+    Page<FinancialTransactionRow> findRowsWithFilters(
+            @Param("transactionType") Enums.TransactionType transactionType,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
             @Param("paymentMethod") Enums.PaymentMethod paymentMethod,
@@ -143,6 +225,54 @@ public interface TransactionsRepository extends JpaRepository<Transactions, UUID
             @Param("expenseCategory") Enums.ExpenseCategory expenseCategory,
             Pageable pageable);
 
+    /**
+     * Stream transaction rows with the same filters as {@link #findWithFilters}
+     *
+     * Must be consumed inside a read-only transaction and closed afterwards;
+     * the fetch size lets the PostgreSQL driver use a server-side cursor so
+     * only one batch of rows is held in memory at a time.
+     *
+     * @param transactionType transaction type
+     * @param startDate start date
+     * @param endDate end date
+     * @param paymentMethod payment method
+     * @param transactionStatus transaction status
+     * @param expenseCategory expense category
+     * @return Stream<FinancialTransactionRow> filtered transaction rows, newest first
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT " + ROW_PROJECTION + " FROM Transactions t " + ROW_JOINS +
+           "WHERE (:transactionType IS NULL OR t.transactionType = :transactionType) " +
+           "AND (CAST(:startDate AS LocalDate) IS NULL OR t.transactionDateOnly >= :startDate) " +
+           "AND (CAST(:endDate AS LocalDate) IS NULL OR t.transactionDateOnly <= :endDate) " +
+           "AND (:paymentMethod IS NULL OR t.paymentMethod = :paymentMethod) " +
+           "AND (:transactionStatus IS NULL OR t.status = :transactionStatus) " +
+           "AND (:expenseCategory IS NULL OR t.expenseCategory = :expenseCategory) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    Stream<FinancialTransactionRow> streamRowsWithFilters(
+            @Param("transactionType") Enums.TransactionType transactionType,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("paymentMethod") Enums.PaymentMethod paymentMethod,
+            @Param("transactionStatus") String transactionStatus,
+            @Param("expenseCategory") Enums.ExpenseCategory expenseCategory);
+
+    /**
+     * Get transaction rows by type for today, with association summaries joined
+     * @param transactionType transaction type (INCOME/EXPENSE)
+     * @return List<FinancialTransactionRow> today's transaction rows
+     */
+    @Query("SELECT " + ROW_PROJECTION + " FROM Transactions t " + ROW_JOINS +
+           "WHERE t.transactionType = :transactionType " +
+           "AND t.transactionDateOnly = CURRENT_DATE " +
+           "ORDER BY t.transactionDate DESC")
+    List<FinancialTransactionRow> findRowsByTransactionTypeAndToday(
+            @Param("transactionType") Enums.TransactionType transactionType);
+
     /**
      * Get transactions by payment method
      * @param paymentMethod payment method
@@ -0,0 +1,159 @@
+package com.garage.backend.financial.service;
+
+import com.garage.backend.financial.entity.DailyFinancialSummary;
+import com.garage.backend.financial.entity.Transactions;
+import com.garage.backend.financial.repository.DailyFinancialSummaryRepository;
+import com.garage.backend.financial.repository.FinancialTotalsRepository;
+import com.garage.backend.shared.enums.Enums;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Maintains the per-day financial totals read by the dashboard
+ *
+ * Every change to a Transactions row must be reported here within the same
+ * database transaction so the totals never drift from the underlying rows;
+ * updates go through recordChanged with the previous state, so a change of
+ * status, type or day moves the amount between totals and days.
+ * Pending income is also kept as a running total in FinancialTotals, so the
+ * all-days figure is a single-row read. Both are rebuilt from the
+ * transactions table by migration V8, once, before the application serves
+ * requests.
+ */
+@Service
+@Transactional
+public class DailyFinancialSummaryService {
+
+    @Autowired
+    private DailyFinancialSummaryRepository summaryRepository;
+
+    @Autowired
+    private FinancialTotalsRepository totalsRepository;
+
+    private static final int INCOME_RECEIVED = 0;
+    private static final int EXPENSES_PAID = 1;
+    private static final int PENDING_INCOME = 2;
+
+    /**
+     * Add a newly created transaction to its day's totals
+     * @param transaction saved transaction
+     */
+    public void recordCreated(Transactions transaction) {
+        applyDelta(transaction, transaction.getAmount());
+    }
+
+    /**
+     * Add a batch of newly created transactions, issuing one upsert per affected day
+     * @param transactions saved transactions
+     */
+    public void recordCreated(Collection<Transactions> transactions) {
+        Map<LocalDate, BigDecimal[]> totalsByDay = new HashMap<>();
+        for (Transactions transaction : transactions) {
+            int bucket = bucketOf(transaction);
+            if (bucket < 0) {
+                continue;
+            }
+            BigDecimal[] totals = totalsByDay.computeIfAbsent(transaction.getTransactionDateOnly(),
+                    day -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO});
+            totals[bucket] = totals[bucket].add(transaction.getAmount());
+        }
+        BigDecimal pendingIncome = BigDecimal.ZERO;
+        for (Map.Entry<LocalDate, BigDecimal[]> day : totalsByDay.entrySet()) {
+            BigDecimal[] totals = day.getValue();
+            summaryRepository.addToDay(day.getKey(), totals[INCOME_RECEIVED], totals[EXPENSES_PAID], totals[PENDING_INCOME]);
+            pendingIncome = pendingIncome.add(totals[PENDING_INCOME]);
+        }
+        if (pendingIncome.signum() != 0) {
+            totalsRepository.addPendingIncome(pendingIncome);
+        }
+    }
+
+    /**
+     * Apply an update of an existing transaction to the totals
+     *
+     * A change of amount within the same total and day is a single upsert of
+     * the difference. A change of status, type or day takes the previous amount
+     * off the total and day it counted towards and adds the new one where it
+     * now counts, e.g. pending income that is paid moves to income received.
+     * @param previous the transaction's amount, type, status and day before the update
+     * @param transaction updated transaction
+     */
+    public void recordChanged(Transactions previous, Transactions transaction) {
+        if (bucketOf(previous) == bucketOf(transaction)
+                && previous.getTransactionDateOnly().equals(transaction.getTransactionDateOnly())) {
+            BigDecimal delta = transaction.getAmount().subtract(previous.getAmount());
+            if (delta.signum() != 0) {
+                applyDelta(transaction, delta);
+            }
+            return;
+        }
+        applyDelta(previous, previous.getAmount().negate());
+        applyDelta(transaction, transaction.getAmount());
+    }
+
+    /**
+     * Get the totals for a day
+     * @param date day
+     * @return DailyFinancialSummary, zeroed if nothing was recorded that day
+     */
+    @Transactional(readOnly = true)
+    public DailyFinancialSummary getSummary(LocalDate date) {
+        Optional<DailyFinancialSummary> summary = summaryRepository.findBySummaryDate(date);
+        if (summary.isPresent()) {
+            return summary.get();
+        }
+        DailyFinancialSummary empty = new DailyFinancialSummary();
+        empty.setSummaryDate(date);
+        return empty;
+    }
+
+    /**
+     * Get total pending income across all days
+     * @return BigDecimal
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal getTotalPendingIncome() {
+        return totalsRepository.getTotalPendingIncome();
+    }
+
+    private void applyDelta(Transactions transaction, BigDecimal amount) {
+        int bucket = bucketOf(transaction);
+        if (bucket < 0) {
+            return;
+        }
+        BigDecimal[] totals = {BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO};
+        totals[bucket] = amount;
+        summaryRepository.addToDay(transaction.getTransactionDateOnly(),
+                totals[INCOME_RECEIVED], totals[EXPENSES_PAID], totals[PENDING_INCOME]);
+        if (bucket == PENDING_INCOME) {
+            totalsRepository.addPendingIncome(amount);
+        }
+    }
+
+    /**
+     * Which daily total a transaction counts towards
+     * @param transaction transaction
+     * @return total index, or -1 if it does not count towards any total
+     */
+    private int bucketOf(Transactions transaction) {
+        boolean income = transaction.getTransactionType() == Enums.TransactionType.INCOME;
+        String status = transaction.getStatus();
+        if (income && "COMPLETED".equals(status)) {
+            return INCOME_RECEIVED;
+        } else if (!income && "COMPLETED".equals(status)) {
+            return EXPENSES_PAID;
+        } else if (income && "PENDING".equals(status)) {
+            return PENDING_INCOME;
+        }
+        // Cancelled and refunded transactions do not count towards any total
+        return -1;
+    }
+}
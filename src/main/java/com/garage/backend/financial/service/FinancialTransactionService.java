@@ -1,35 +1,68 @@
 package com.garage.backend.financial.service;
 
+import com.garage.backend.financial.dto.BulkTransactionResponse;
+import com.garage.backend.financial.dto.BulkTransactionResult;
 import com.garage.backend.financial.dto.CreateIncomeTransactionRequest;
 import com.garage.backend.financial.dto.CreateExpenseTransactionRequest;
 import com.garage.backend.financial.dto.FinancialTransactionResponse;
+import com.garage.backend.financial.dto.FinancialTransactionRow;
 import com.garage.backend.financial.dto.MoneyDataResponse;
+import com.garage.backend.financial.entity.DailyFinancialSummary;
 import com.garage.backend.financial.entity.Transactions;
 import com.garage.backend.customer.entity.Customers;
 import com.garage.backend.vehicle.entity.Vehicles;
 import com.garage.backend.jobcard.entity.JobCards;
 import com.garage.backend.staff.entity.Staff;
 import com.garage.backend.shared.enums.Enums;
+import com.garage.backend.financial.repository.TransactionSpecifications;
 import com.garage.backend.financial.repository.TransactionsRepository;
 import com.garage.backend.customer.repository.CustomersRepository;
 import com.garage.backend.vehicle.repository.VehiclesRepository;
 import com.garage.backend.jobcard.repository.JobCardsRepository;
 import com.garage.backend.staff.repository.StaffRepository;
+import com.garage.backend.shared.pagination.CursorPage;
+import com.garage.backend.shared.pagination.KeysetCursor;
+import com.garage.backend.snapshot.service.DailySnapshotService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -50,6 +83,34 @@ public class FinancialTransactionService {
     @Autowired
     private StaffRepository staffRepository;
 
+    @Autowired
+    private DailyFinancialSummaryService dailyFinancialSummaryService;
+
+    @Autowired
+    private DailySnapshotService dailySnapshotService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final int RECENT_TRANSACTIONS_LIMIT = 50;
+
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Rows validated and flushed together by the bulk endpoints; a multiple of hibernate.jdbc.batch_size
+     */
+    private static final int BULK_CHUNK_SIZE = 500;
+
+    private static final String CSV_HEADER = "id,transactionDate,transactionType,amount,status,paymentMethod," +
+            "expenseCategory,description,referenceNumber,vendorName,vendorContact,customerName,customerPhone," +
+            "vehicleRegistrationNumber,jobNumber,createdBy,notes\n";
+
     /**
      * Create income transaction
      * @param request income transaction request
@@ -90,6 +151,8 @@ public class FinancialTransactionService {
         }
 
         Transactions savedTransaction = transactionsRepository.save(transaction);
+        dailyFinancialSummaryService.recordCreated(savedTransaction);
+        dailySnapshotService.recordCreated(savedTransaction);
         return mapToResponse(savedTransaction);
     }
 
@@ -111,6 +174,8 @@ public class FinancialTransactionService {
         );
 
         Transactions savedTransaction = transactionsRepository.save(transaction);
+        dailyFinancialSummaryService.recordCreated(savedTransaction);
+        dailySnapshotService.recordCreated(savedTransaction);
         return mapToResponse(savedTransaction);
     }
 
@@ -130,6 +195,8 @@ public class FinancialTransactionService {
             throw new RuntimeException("Transaction is not an expense transaction");
         }
 
+        Transactions previous = countedState(transaction);
+
         // Update fields
         transaction.setAmount(request.getAmount());
         transaction.setDescription(request.getDescription());
@@ -140,17 +207,51 @@ public class FinancialTransactionService {
         transaction.setNotes(request.getNotes());
 
         Transactions savedTransaction = transactionsRepository.save(transaction);
+        dailyFinancialSummaryService.recordChanged(previous, savedTransaction);
+        dailySnapshotService.recordChanged(previous, savedTransaction);
         return mapToResponse(savedTransaction);
     }
 
+    /**
+     * Create income transactions in bulk
+     *
+     * Rows are processed in chunks: referenced customers, vehicles and job cards
+     * are checked with one IN query per chunk, and the valid rows are inserted
+     * with JDBC batching. Invalid rows are reported and skipped, they do not
+     * abort the rest of the import.
+     *
+     * @param requests income transaction requests, consumed once in order
+     * @return BulkTransactionResponse with one result per input row
+     */
+    public BulkTransactionResponse createIncomeTransactions(Iterator<CreateIncomeTransactionRequest> requests) {
+        return ingestInChunks(requests, this::buildIncomeTransactions);
+    }
+
+    /**
+     * Create expense transactions in bulk
+     * @param requests expense transaction requests, consumed once in order
+     * @return BulkTransactionResponse with one result per input row
+     */
+    public BulkTransactionResponse createExpenseTransactions(Iterator<CreateExpenseTransactionRequest> requests) {
+        return ingestInChunks(requests, this::buildExpenseTransactions);
+    }
+
     /**
      * Get money data for dashboard
+     * 
+     * Totals come from the incrementally maintained daily summary, so the cost
+     * does not grow with the number of transactions. The recent feed is capped
+     * and fetched with its associations in a single query.
+     * 
      * @return MoneyDataResponse
      */
+    @Timed(value = "garage.service", extraTags = {"operation", "financial.money-data"}, histogram = true)
+    @Transactional(readOnly = true)
     public MoneyDataResponse getMoneyData() {
-        BigDecimal receivedToday = transactionsRepository.getTodayIncome();
-        BigDecimal spentToday = transactionsRepository.getTodayExpenses();
-        BigDecimal amountToBeCollected = transactionsRepository.getPendingIncome();
+        DailyFinancialSummary today = dailyFinancialSummaryService.getSummary(LocalDate.now());
+        BigDecimal receivedToday = today.getIncomeReceived();
+        BigDecimal spentToday = today.getExpensesPaid();
+        BigDecimal amountToBeCollected = dailyFinancialSummaryService.getTotalPendingIncome();
         
         // Handle null values from database
         if (receivedToday == null) receivedToday = BigDecimal.ZERO;
@@ -159,10 +260,11 @@ public class FinancialTransactionService {
         
         BigDecimal netProfit = receivedToday.subtract(spentToday);
 
-        // Get recent transactions (last 7 days)
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
+        // Get recent transactions (last 7 days, newest first, capped)
         LocalDateTime now = LocalDateTime.now();
-        List<Transactions> recentTransactions = transactionsRepository.getRecentTransactions(weekAgo, now);
+        LocalDateTime weekAgo = now.minusDays(7);
+        List<Transactions> recentTransactions = transactionsRepository.findRecentWithDetails(
+                weekAgo, now, PageRequest.of(0, RECENT_TRANSACTIONS_LIMIT));
 
         List<FinancialTransactionResponse> recentTransactionResponses = recentTransactions.stream()
                 .map(this::mapToResponse)
@@ -204,31 +306,105 @@ public class FinancialTransactionService {
             endDateTime = toDate.atTime(LocalTime.MAX);
         }
 
-        // Convert expense category string to enum if provided
-        Enums.ExpenseCategory expenseCategoryEnum = null;
-        if (expenseCategory != null && !expenseCategory.isEmpty()) {
-            try {
-                expenseCategoryEnum = Enums.ExpenseCategory.valueOf(expenseCategory.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                throw new RuntimeException("Invalid expense category: " + expenseCategory);
-            }
+        Enums.ExpenseCategory expenseCategoryEnum = parseExpenseCategory(expenseCategory);
+        Enums.PaymentMethod paymentMethodEnum = parsePaymentMethod(paymentMethod);
+
+        // Read the page through the joined projection so associations cost no extra statements
+        Page<FinancialTransactionRow> rowsPage = transactionsRepository.findRowsWithFilters(
+                parseTransactionType(transactionType), fromDate, toDate, paymentMethodEnum, transactionStatus,
+                expenseCategoryEnum, pageable);
+
+        return rowsPage.map(this::mapToResponse);
+    }
+
+    /**
+     * Get transactions using keyset (cursor) pagination and filtering
+     * @param after cursor returned by the previous page, or null for the first page
+     * @param size page size, clamped to 1..CursorPage.MAX_SIZE
+     * @param transactionType transaction type filter
+     * @param fromDate start date filter
+     * @param toDate end date filter
+     * @param paymentMethod payment method filter
+     * @param transactionStatus transaction status filter
+     * @param expenseCategory expense category filter
+     * @return CursorPage<FinancialTransactionResponse> ordered by (transactionDate, id) descending
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<FinancialTransactionResponse> getTransactionsAfterCursor(String after, int size,
+                                                                              String transactionType, LocalDate fromDate,
+                                                                              LocalDate toDate, String paymentMethod,
+                                                                              String transactionStatus, String expenseCategory) {
+        Specification<Transactions> spec = TransactionSpecifications.withFilters(
+                parseTransactionType(transactionType), fromDate, toDate,
+                parsePaymentMethod(paymentMethod), transactionStatus, parseExpenseCategory(expenseCategory));
+        ScrollPosition position = KeysetCursor.toScrollPosition(after, "transactionDate");
+
+        Window<Transactions> window = transactionsRepository.findBy(spec, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "transactionDate", "id"))
+                .limit(CursorPage.effectiveSize(size))
+                .scroll(position));
+
+        return CursorPage.of(window, "transactionDate", this::mapToResponse);
+    }
+
+    /**
+     * Export transactions matching the listing filters straight to an output stream
+     *
+     * Rows are read through a forward-only cursor and written as they arrive, so
+     * memory use does not depend on how many transactions match. Filters are
+     * parsed before anything is written, so invalid input fails cleanly.
+     *
+     * @param format output format (CSV/NDJSON)
+     * @param transactionType transaction type filter
+     * @param fromDate start date filter
+     * @param toDate end date filter
+     * @param paymentMethod payment method filter
+     * @param transactionStatus transaction status filter
+     * @param expenseCategory expense category filter
+     * @param out destination stream, left open for the caller
+     * @return number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportTransactions(TransactionExportFormat format, String transactionType, LocalDate fromDate,
+                                   LocalDate toDate, String paymentMethod, String transactionStatus,
+                                   String expenseCategory, OutputStream out) throws IOException {
+        Enums.TransactionType transactionTypeEnum = parseTransactionType(transactionType);
+        Enums.ExpenseCategory expenseCategoryEnum = parseExpenseCategory(expenseCategory);
+        Enums.PaymentMethod paymentMethodEnum = parsePaymentMethod(paymentMethod);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        JsonGenerator generator = null;
+        ObjectWriter rowWriter = null;
+        if (format == TransactionExportFormat.NDJSON) {
+            generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            rowWriter = objectMapper.writerFor(FinancialTransactionRow.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        } else {
+            writer.write(CSV_HEADER);
         }
 
-        // Convert payment method string to enum if provided
-        Enums.PaymentMethod paymentMethodEnum = null;
-        if (paymentMethod != null && !paymentMethod.isEmpty()) {
-            try {
-                paymentMethodEnum = Enums.PaymentMethod.valueOf(paymentMethod.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                throw new RuntimeException("Invalid payment method: " + paymentMethod);
+        long count = 0;
+        try (Stream<FinancialTransactionRow> rows = transactionsRepository.streamRowsWithFilters(
+                transactionTypeEnum, fromDate, toDate, paymentMethodEnum, transactionStatus, expenseCategoryEnum)) {
+            Iterator<FinancialTransactionRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                FinancialTransactionRow row = iterator.next();
+                if (generator != null) {
+                    rowWriter.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                } else {
+                    writeCsvRow(writer, row);
+                }
+                count++;
             }
         }
 
-        // Use the new repository method with all filters
-        Page<Transactions> transactionsPage = transactionsRepository.findWithFilters(
-                transactionType, fromDate, toDate, paymentMethodEnum, transactionStatus, expenseCategoryEnum, pageable);
-
-        return transactionsPage.map(this::mapToResponse);
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+        return count;
     }
 
     /**
@@ -237,12 +413,286 @@ public class FinancialTransactionService {
      * @return List<FinancialTransactionResponse>
      */
     public List<FinancialTransactionResponse> getTodayTransactions(String transactionType) {
-        List<Transactions> transactions = transactionsRepository.findByTransactionTypeAndToday(transactionType);
+        List<FinancialTransactionRow> transactions = transactionsRepository.findRowsByTransactionTypeAndToday(
+                parseTransactionType(transactionType));
         return transactions.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Copy of the fields the daily totals are keyed on, taken before an update
+     * @param transaction transaction about to be updated
+     * @return Transactions detached copy with amount, type, status and day
+     */
+    private Transactions countedState(Transactions transaction) {
+        Transactions copy = new Transactions();
+        copy.setAmount(transaction.getAmount());
+        copy.setTransactionType(transaction.getTransactionType());
+        copy.setStatus(transaction.getStatus());
+        copy.setTransactionDateOnly(transaction.getTransactionDateOnly());
+        return copy;
+    }
+
+    /**
+     * Convert transaction type string to enum
+     * @param transactionType transaction type, may be null or empty
+     * @return Enums.TransactionType or null if not provided
+     */
+    private Enums.TransactionType parseTransactionType(String transactionType) {
+        if (transactionType == null || transactionType.isEmpty()) {
+            return null;
+        }
+        try {
+            return Enums.TransactionType.valueOf(transactionType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid transaction type: " + transactionType);
+        }
+    }
+
+    /**
+     * Convert expense category string to enum
+     * @param expenseCategory expense category, may be null or empty
+     * @return Enums.ExpenseCategory or null if not provided
+     */
+    private Enums.ExpenseCategory parseExpenseCategory(String expenseCategory) {
+        if (expenseCategory == null || expenseCategory.isEmpty()) {
+            return null;
+        }
+        try {
+            return Enums.ExpenseCategory.valueOf(expenseCategory.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid expense category: " + expenseCategory);
+        }
+    }
+
+    /**
+     * Convert payment method string to enum
+     * @param paymentMethod payment method, may be null or empty
+     * @return Enums.PaymentMethod or null if not provided
+     */
+    private Enums.PaymentMethod parsePaymentMethod(String paymentMethod) {
+        if (paymentMethod == null || paymentMethod.isEmpty()) {
+            return null;
+        }
+        try {
+            return Enums.PaymentMethod.valueOf(paymentMethod.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid payment method: " + paymentMethod);
+        }
+    }
+
+    /**
+     * Builds the transactions for one chunk of bulk rows
+     */
+    @FunctionalInterface
+    private interface ChunkBuilder<T> {
+        /**
+         * @param chunk request rows
+         * @param errors per-row errors, pre-filled for rows that failed validation; set for newly rejected rows
+         * @return transactions aligned with the chunk, null for rejected rows
+         */
+        List<Transactions> build(List<T> chunk, String[] errors);
+    }
+
+    /**
+     * Consume bulk rows in chunks of {@link #BULK_CHUNK_SIZE}, persisting each chunk as a batch
+     * @param requests request rows
+     * @param builder converts a validated chunk into transactions
+     * @return BulkTransactionResponse
+     */
+    private <T> BulkTransactionResponse ingestInChunks(Iterator<T> requests, ChunkBuilder<T> builder) {
+        BulkTransactionResponse response = new BulkTransactionResponse();
+        List<T> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+        int firstIndex = 0;
+        while (requests.hasNext()) {
+            chunk.add(requests.next());
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                persistChunk(chunk, firstIndex, builder, response);
+                firstIndex += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            persistChunk(chunk, firstIndex, builder, response);
+        }
+        return response;
+    }
+
+    private <T> void persistChunk(List<T> chunk, int firstIndex, ChunkBuilder<T> builder,
+                                  BulkTransactionResponse response) {
+        String[] errors = new String[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            T request = chunk.get(i);
+            if (request == null) {
+                errors[i] = "Row is empty";
+                continue;
+            }
+            Set<ConstraintViolation<T>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                errors[i] = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+            }
+        }
+
+        List<Transactions> transactions = builder.build(chunk, errors);
+        List<Transactions> valid = new ArrayList<>(transactions.size());
+        for (Transactions transaction : transactions) {
+            if (transaction != null) {
+                valid.add(transaction);
+            }
+        }
+
+        transactionsRepository.saveAll(valid);
+        entityManager.flush();
+        dailyFinancialSummaryService.recordCreated(valid);
+        dailySnapshotService.recordCreated(valid);
+
+        for (int i = 0; i < transactions.size(); i++) {
+            Transactions transaction = transactions.get(i);
+            response.addResult(transaction != null
+                    ? BulkTransactionResult.created(firstIndex + i, transaction.getId())
+                    : BulkTransactionResult.rejected(firstIndex + i, errors[i]));
+        }
+
+        // Detach the chunk so the persistence context does not grow with the import
+        entityManager.clear();
+    }
+
+    private List<Transactions> buildIncomeTransactions(List<CreateIncomeTransactionRequest> chunk, String[] errors) {
+        Set<UUID> customerIds = new HashSet<>();
+        Set<UUID> vehicleIds = new HashSet<>();
+        Set<UUID> jobCardIds = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (errors[i] != null) {
+                continue;
+            }
+            CreateIncomeTransactionRequest request = chunk.get(i);
+            customerIds.add(request.getCustomerId());
+            if (request.getVehicleId() != null) {
+                vehicleIds.add(request.getVehicleId());
+            }
+            if (request.getJobCardId() != null) {
+                jobCardIds.add(request.getJobCardId());
+            }
+        }
+
+        Set<UUID> existingCustomers = customerIds.isEmpty()
+                ? Collections.emptySet() : new HashSet<>(customersRepository.findExistingIds(customerIds));
+        Set<UUID> existingVehicles = vehicleIds.isEmpty()
+                ? Collections.emptySet() : new HashSet<>(vehiclesRepository.findExistingIds(vehicleIds));
+        Set<UUID> existingJobCards = jobCardIds.isEmpty()
+                ? Collections.emptySet() : new HashSet<>(jobCardsRepository.findExistingIds(jobCardIds));
+
+        List<Transactions> transactions = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            CreateIncomeTransactionRequest request = chunk.get(i);
+            if (errors[i] == null && !existingCustomers.contains(request.getCustomerId())) {
+                errors[i] = "Customer not found with ID: " + request.getCustomerId();
+            }
+            if (errors[i] == null && request.getVehicleId() != null
+                    && !existingVehicles.contains(request.getVehicleId())) {
+                errors[i] = "Vehicle not found with ID: " + request.getVehicleId();
+            }
+            if (errors[i] == null && request.getJobCardId() != null
+                    && !existingJobCards.contains(request.getJobCardId())) {
+                errors[i] = "Job card not found with ID: " + request.getJobCardId();
+            }
+            if (errors[i] != null) {
+                transactions.add(null);
+                continue;
+            }
+
+            // Existence was checked above, so references avoid loading each association
+            Transactions transaction = new Transactions(
+                    request.getAmount(),
+                    request.getDescription(),
+                    customersRepository.getReferenceById(request.getCustomerId()),
+                    request.getVehicleId() != null ? vehiclesRepository.getReferenceById(request.getVehicleId()) : null,
+                    request.getJobCardId() != null ? jobCardsRepository.getReferenceById(request.getJobCardId()) : null,
+                    request.getPaymentMethod(),
+                    request.getReferenceNumber()
+            );
+            if (request.getNotes() != null) {
+                transaction.setNotes(request.getNotes());
+            }
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+
+    private List<Transactions> buildExpenseTransactions(List<CreateExpenseTransactionRequest> chunk, String[] errors) {
+        List<Transactions> transactions = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (errors[i] != null) {
+                transactions.add(null);
+                continue;
+            }
+            CreateExpenseTransactionRequest request = chunk.get(i);
+            transactions.add(new Transactions(
+                    request.getAmount(),
+                    request.getDescription(),
+                    request.getExpenseCategory(),
+                    request.getVendorName(),
+                    request.getVendorContact(),
+                    request.getReferenceNumber(),
+                    request.getNotes()
+            ));
+        }
+        return transactions;
+    }
+
+    /**
+     * Write one transaction row as a CSV line in {@link #CSV_HEADER} column order
+     * @param writer destination writer
+     * @param row transaction row
+     */
+    private void writeCsvRow(Writer writer, FinancialTransactionRow row) throws IOException {
+        String createdBy = row.getStaffId() != null
+                ? row.getStaffFirstName() + " " + row.getStaffLastName()
+                : null;
+
+        writeCsvField(writer, row.getId(), false);
+        writeCsvField(writer, row.getTransactionDate(), false);
+        writeCsvField(writer, row.getTransactionType(), false);
+        writeCsvField(writer, row.getAmount() != null ? row.getAmount().toPlainString() : null, false);
+        writeCsvField(writer, row.getStatus(), false);
+        writeCsvField(writer, row.getPaymentMethod(), false);
+        writeCsvField(writer, row.getExpenseCategory(), false);
+        writeCsvField(writer, row.getDescription(), false);
+        writeCsvField(writer, row.getReferenceNumber(), false);
+        writeCsvField(writer, row.getVendorName(), false);
+        writeCsvField(writer, row.getVendorContact(), false);
+        writeCsvField(writer, row.getCustomerName(), false);
+        writeCsvField(writer, row.getCustomerPhone(), false);
+        writeCsvField(writer, row.getVehicleRegistrationNumber(), false);
+        writeCsvField(writer, row.getJobNumber(), false);
+        writeCsvField(writer, createdBy, false);
+        writeCsvField(writer, row.getNotes(), true);
+    }
+
+    /**
+     * Write a single CSV field, quoting it when it contains a separator, quote or line break
+     * @param writer destination writer
+     * @param value field value, written empty when null
+     * @param last whether this is the last field of the line
+     */
+    private void writeCsvField(Writer writer, Object value, boolean last) throws IOException {
+        if (value != null) {
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+        writer.write(last ? '\n' : ',');
+    }
+
     /**
      * Map transaction entity to response DTO
      * @param transaction transaction entity
@@ -318,4 +768,54 @@ public class FinancialTransactionService {
 
         return response;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Map joined transaction row to response DTO
+     * @param row transaction row read through the joined projection
+     * @return FinancialTransactionResponse
+     */
+    private FinancialTransactionResponse mapToResponse(FinancialTransactionRow row) {
+        FinancialTransactionResponse response = new FinancialTransactionResponse();
+        response.setId(row.getId());
+        response.setAmount(row.getAmount());
+        response.setTransactionType(row.getTransactionType());
+        response.setTransactionDate(row.getTransactionDate());
+        response.setTransactionDateOnly(row.getTransactionDateOnly());
+        response.setDescription(row.getDescription());
+        response.setStatus(row.getStatus());
+        response.setReferenceNumber(row.getReferenceNumber());
+        response.setNotes(row.getNotes());
+        response.setCreatedAt(row.getCreatedAt());
+
+        if (row.getCustomerId() != null) {
+            response.setCustomer(new FinancialTransactionResponse.CustomerSummary(
+                    row.getCustomerId(), row.getCustomerName(), row.getCustomerPhone()));
+        }
+
+        if (row.getVehicleId() != null) {
+            response.setVehicle(new FinancialTransactionResponse.VehicleSummary(
+                    row.getVehicleId(), row.getVehicleRegistrationNumber(), row.getVehicleMake(), row.getVehicleModel()));
+        }
+
+        if (row.getJobCardId() != null) {
+            response.setJobCard(new FinancialTransactionResponse.JobCardSummary(
+                    row.getJobCardId(), row.getJobNumber(), row.getJobCardStatus()));
+        }
+
+        if (row.getStaffId() != null) {
+            String staffName = row.getStaffFirstName() + " " + row.getStaffLastName();
+            response.setCreatedBy(new FinancialTransactionResponse.StaffSummary(
+                    row.getStaffId(), staffName, row.getStaffRole().toString()));
+        }
+
+        // Set income-specific fields
+        response.setPaymentMethod(row.getPaymentMethod());
+
+        // Set expense-specific fields
+        response.setExpenseCategory(row.getExpenseCategory());
+        response.setVendorName(row.getVendorName());
+        response.setVendorContact(row.getVendorContact());
+
+        return response;
+    }
+}
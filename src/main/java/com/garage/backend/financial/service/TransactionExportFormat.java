@@ -0,0 +1,41 @@
+package com.garage.backend.financial.service;
+
+/**
+ * Output formats supported by the transaction export endpoint
+ */
+public enum TransactionExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    TransactionExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Convert format string to enum
+     * @param format export format, may be null or empty
+     * @return TransactionExportFormat, CSV if not provided
+     */
+    public static TransactionExportFormat fromString(String format) {
+        if (format == null || format.isEmpty()) {
+            return CSV;
+        }
+        try {
+            return valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid export format: " + format);
+        }
+    }
+}
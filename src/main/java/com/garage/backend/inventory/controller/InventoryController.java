@@ -0,0 +1,137 @@
+package com.garage.backend.inventory.controller;
+
+import com.garage.backend.inventory.dto.PartSearchHit;
+import com.garage.backend.inventory.dto.TransferBatchRequest;
+import com.garage.backend.inventory.dto.TransferBatchResponse;
+import com.garage.backend.inventory.service.InsufficientStockException;
+import com.garage.backend.inventory.service.InventoryTransferService;
+import com.garage.backend.inventory.service.PartsSearchService;
+import com.garage.backend.shared.service.GarageContextService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/admin/inventory")
+@CrossOrigin(origins = "*")
+public class InventoryController {
+
+    @Autowired
+    private PartsSearchService partsSearchService;
+
+    @Autowired
+    private InventoryTransferService inventoryTransferService;
+
+    @Autowired
+    private GarageContextService garageContextService;
+
+    /**
+     * Search parts by partial name or code (type-ahead for counter staff)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<PartSearchHit>> searchParts(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) UUID branchId,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            List<PartSearchHit> response = partsSearchService.search(query, branchId, category, limit);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Create a transfer batch moving many stock items between two branches
+     * @param request source and destination branches plus one line per item
+     * @return ResponseEntity<TransferBatchResponse> with the new batch number (409 if completing
+     *         immediately and a source item lacks stock)
+     */
+    @PostMapping("/transfers/batches")
+    public ResponseEntity<TransferBatchResponse> createTransferBatch(@Valid @RequestBody TransferBatchRequest request) {
+        try {
+            TransferBatchResponse response = inventoryTransferService.createBatch(request,
+                    garageContextService.getCurrentUserId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (InsufficientStockException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Get a transfer batch summary
+     */
+    @GetMapping("/transfers/batches/{batchNumber}")
+    public ResponseEntity<TransferBatchResponse> getTransferBatch(@PathVariable String batchNumber) {
+        try {
+            return ResponseEntity.ok(inventoryTransferService.getBatch(batchNumber));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Dispatch a PENDING batch (stock leaves the source branch)
+     */
+    @PostMapping("/transfers/batches/{batchNumber}/dispatch")
+    public ResponseEntity<TransferBatchResponse> dispatchTransferBatch(@PathVariable String batchNumber) {
+        try {
+            return ResponseEntity.ok(inventoryTransferService.dispatchBatch(batchNumber,
+                    garageContextService.getCurrentUserId()));
+        } catch (InsufficientStockException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            return transitionFailed(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Receive an IN_TRANSIT batch (stock arrives at the destination branch)
+     */
+    @PostMapping("/transfers/batches/{batchNumber}/receive")
+    public ResponseEntity<TransferBatchResponse> receiveTransferBatch(@PathVariable String batchNumber) {
+        try {
+            return ResponseEntity.ok(inventoryTransferService.receiveBatch(batchNumber,
+                    garageContextService.getCurrentUserId()));
+        } catch (RuntimeException e) {
+            return transitionFailed(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Cancel a PENDING batch
+     */
+    @PostMapping("/transfers/batches/{batchNumber}/cancel")
+    public ResponseEntity<TransferBatchResponse> cancelTransferBatch(@PathVariable String batchNumber) {
+        try {
+            return ResponseEntity.ok(inventoryTransferService.cancelBatch(batchNumber));
+        } catch (RuntimeException e) {
+            return transitionFailed(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private static ResponseEntity<TransferBatchResponse> transitionFailed(RuntimeException e) {
+        if (e.getMessage() != null && e.getMessage().contains("not found")) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.garage.backend.inventory.dto;
+
+import java.util.UUID;
+
+/**
+ * Inventory item whose available stock is below its minimum stock level
+ */
+public class LowStockItem {
+
+    private UUID inventoryId;
+    private String itemCode;
+    private String itemName;
+    private Integer quantity;
+    private Integer reservedQuantity;
+    private Integer minStockLevel;
+
+    // Constructors
+    public LowStockItem() {}
+
+    public LowStockItem(UUID inventoryId, String itemCode, String itemName,
+                        Integer quantity, Integer reservedQuantity, Integer minStockLevel) {
+        this.inventoryId = inventoryId;
+        this.itemCode = itemCode;
+        this.itemName = itemName;
+        this.quantity = quantity;
+        this.reservedQuantity = reservedQuantity;
+        this.minStockLevel = minStockLevel;
+    }
+
+    // Getters and Setters
+    public UUID getInventoryId() {
+        return inventoryId;
+    }
+
+    public void setInventoryId(UUID inventoryId) {
+        this.inventoryId = inventoryId;
+    }
+
+    public String getItemCode() {
+        return itemCode;
+    }
+
+    public void setItemCode(String itemCode) {
+        this.itemCode = itemCode;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public void setItemName(String itemName) {
+        this.itemName = itemName;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public Integer getReservedQuantity() {
+        return reservedQuantity;
+    }
+
+    public void setReservedQuantity(Integer reservedQuantity) {
+        this.reservedQuantity = reservedQuantity;
+    }
+
+    public Integer getMinStockLevel() {
+        return minStockLevel;
+    }
+
+    public void setMinStockLevel(Integer minStockLevel) {
+        this.minStockLevel = minStockLevel;
+    }
+
+    public Integer getAvailableQuantity() {
+        return quantity - reservedQuantity;
+    }
+}
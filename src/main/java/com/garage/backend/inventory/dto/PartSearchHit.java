@@ -0,0 +1,30 @@
+package com.garage.backend.inventory.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * One parts search result, projected straight from the search query
+ *
+ * score is the trigram word similarity (0..1) between the search term and
+ * "item code + item name"; 1 means the term matches a whole word or code
+ * exactly. Results are ordered by score, then item name.
+ */
+public interface PartSearchHit {
+
+    UUID getId();
+
+    String getItemCode();
+
+    String getItemName();
+
+    String getCategory();
+
+    String getUnit();
+
+    BigDecimal getSellingPrice();
+
+    UUID getBranchId();
+
+    Double getScore();
+}
@@ -0,0 +1,100 @@
+package com.garage.backend.inventory.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for moving many stock items between two branches in one transfer batch
+ *
+ * Scenario: Restock a Branch
+ *   Given a branch needs hundreds of parts from another branch
+ *   When the lines are submitted as one batch
+ *   Then one transfer per line is created under a shared batch number
+ *   And the whole batch is dispatched, received or cancelled at once
+ *   And if completeImmediately is set the stock moves in the same request
+ */
+public class TransferBatchRequest {
+
+    @NotNull(message = "From branch ID is required")
+    private UUID fromBranchId;
+
+    @NotNull(message = "To branch ID is required")
+    private UUID toBranchId;
+
+    // Defaults to today
+    private LocalDate transferDate;
+
+    @Size(max = 1000, message = "Notes must not exceed 1000 characters")
+    private String notes;
+
+    // Create the batch already COMPLETED, moving the stock in the same transaction
+    private Boolean completeImmediately = false;
+
+    @NotEmpty(message = "At least one transfer line is required")
+    @Valid
+    private List<TransferLineRequest> lines;
+
+    // Constructors
+    public TransferBatchRequest() {}
+
+    public TransferBatchRequest(UUID fromBranchId, UUID toBranchId, List<TransferLineRequest> lines) {
+        this.fromBranchId = fromBranchId;
+        this.toBranchId = toBranchId;
+        this.lines = lines;
+    }
+
+    // Getters and Setters
+    public UUID getFromBranchId() {
+        return fromBranchId;
+    }
+
+    public void setFromBranchId(UUID fromBranchId) {
+        this.fromBranchId = fromBranchId;
+    }
+
+    public UUID getToBranchId() {
+        return toBranchId;
+    }
+
+    public void setToBranchId(UUID toBranchId) {
+        this.toBranchId = toBranchId;
+    }
+
+    public LocalDate getTransferDate() {
+        return transferDate;
+    }
+
+    public void setTransferDate(LocalDate transferDate) {
+        this.transferDate = transferDate;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public Boolean getCompleteImmediately() {
+        return completeImmediately;
+    }
+
+    public void setCompleteImmediately(Boolean completeImmediately) {
+        this.completeImmediately = completeImmediately;
+    }
+
+    public List<TransferLineRequest> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<TransferLineRequest> lines) {
+        this.lines = lines;
+    }
+}
@@ -0,0 +1,89 @@
+package com.garage.backend.inventory.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Response DTO summarising a transfer batch
+ */
+public class TransferBatchResponse {
+
+    private String batchNumber;
+    private UUID fromBranchId;
+    private UUID toBranchId;
+    private String status;
+    private LocalDate transferDate;
+    private int lineCount;
+    private long totalQuantity;
+
+    // Constructors
+    public TransferBatchResponse() {}
+
+    public TransferBatchResponse(String batchNumber, UUID fromBranchId, UUID toBranchId, String status,
+                                 LocalDate transferDate, int lineCount, long totalQuantity) {
+        this.batchNumber = batchNumber;
+        this.fromBranchId = fromBranchId;
+        this.toBranchId = toBranchId;
+        this.status = status;
+        this.transferDate = transferDate;
+        this.lineCount = lineCount;
+        this.totalQuantity = totalQuantity;
+    }
+
+    // Getters and Setters
+    public String getBatchNumber() {
+        return batchNumber;
+    }
+
+    public void setBatchNumber(String batchNumber) {
+        this.batchNumber = batchNumber;
+    }
+
+    public UUID getFromBranchId() {
+        return fromBranchId;
+    }
+
+    public void setFromBranchId(UUID fromBranchId) {
+        this.fromBranchId = fromBranchId;
+    }
+
+    public UUID getToBranchId() {
+        return toBranchId;
+    }
+
+    public void setToBranchId(UUID toBranchId) {
+        this.toBranchId = toBranchId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDate getTransferDate() {
+        return transferDate;
+    }
+
+    public void setTransferDate(LocalDate transferDate) {
+        this.transferDate = transferDate;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public void setLineCount(int lineCount) {
+        this.lineCount = lineCount;
+    }
+
+    public long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    public void setTotalQuantity(long totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+}
@@ -0,0 +1,57 @@
+package com.garage.backend.inventory.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * One line of a transfer batch: quantity of a stock item moved to its
+ * counterpart at the destination branch
+ */
+public class TransferLineRequest {
+
+    @NotNull(message = "Inventory ID is required")
+    private UUID inventoryId;
+
+    @NotNull(message = "Destination inventory ID is required")
+    private UUID toInventoryId;
+
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+
+    // Constructors
+    public TransferLineRequest() {}
+
+    public TransferLineRequest(UUID inventoryId, UUID toInventoryId, Integer quantity) {
+        this.inventoryId = inventoryId;
+        this.toInventoryId = toInventoryId;
+        this.quantity = quantity;
+    }
+
+    // Getters and Setters
+    public UUID getInventoryId() {
+        return inventoryId;
+    }
+
+    public void setInventoryId(UUID inventoryId) {
+        this.inventoryId = inventoryId;
+    }
+
+    public UUID getToInventoryId() {
+        return toInventoryId;
+    }
+
+    public void setToInventoryId(UUID toInventoryId) {
+        this.toInventoryId = toInventoryId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -27,7 +27,7 @@ public class InventoryAdjustments {
     @NotBlank(message = "Adjustment type is required")
     @Size(max = 20, message = "Adjustment type must not exceed 20 characters")
     @Column(name = "adjustment_type", nullable = false)
-    private String adjustmentType; // INCREASE/DECREASE
+    private String adjustmentType; // INCREASE/DECREASE/RESERVE/RELEASE/CONSUME
 
     @NotNull(message = "Quantity is required")
     @Column(name = "quantity", nullable = false)
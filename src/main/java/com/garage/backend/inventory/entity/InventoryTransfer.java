@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "Inventory_Transfer")
+@Table(name = "Inventory_Transfer",
+       indexes = @Index(name = "idx_inventory_transfer_batch_number", columnList = "batch_number"))
 @EntityListeners(AuditingEntityListener.class)
 public class InventoryTransfer {
 
@@ -27,10 +28,19 @@ public class InventoryTransfer {
     @Column(name = "transfer_number", nullable = false, unique = true)
     private String transferNumber;
 
+    // Set when the transfer is one line of a batch; every line of a batch moves through the statuses together
+    @Size(max = 50, message = "Batch number must not exceed 50 characters")
+    @Column(name = "batch_number")
+    private String batchNumber;
+
     @NotNull(message = "Inventory ID is required")
     @Column(name = "inventory_id", nullable = false, columnDefinition = "UUID")
     private UUID inventoryId;
 
+    // Stock item at the destination branch that receives the quantity
+    @Column(name = "to_inventory_id", columnDefinition = "UUID")
+    private UUID toInventoryId;
+
     @NotNull(message = "From branch ID is required")
     @Column(name = "from_branch_id", nullable = false, columnDefinition = "UUID")
     private UUID fromBranchId;
@@ -103,6 +113,14 @@ public class InventoryTransfer {
         this.transferNumber = transferNumber;
     }
 
+    public String getBatchNumber() {
+        return batchNumber;
+    }
+
+    public void setBatchNumber(String batchNumber) {
+        this.batchNumber = batchNumber;
+    }
+
     public UUID getInventoryId() {
         return inventoryId;
     }
@@ -111,6 +129,14 @@ public class InventoryTransfer {
         this.inventoryId = inventoryId;
     }
 
+    public UUID getToInventoryId() {
+        return toInventoryId;
+    }
+
+    public void setToInventoryId(UUID toInventoryId) {
+        this.toInventoryId = toInventoryId;
+    }
+
     public UUID getFromBranchId() {
         return fromBranchId;
     }
@@ -196,7 +222,9 @@ public class InventoryTransfer {
         return "InventoryTransfer{" +
                 "id=" + id +
                 ", transferNumber='" + transferNumber + '\'' +
+                ", batchNumber='" + batchNumber + '\'' +
                 ", inventoryId=" + inventoryId +
+                ", toInventoryId=" + toInventoryId +
                 ", fromBranchId=" + fromBranchId +
                 ", toBranchId=" + toBranchId +
                 ", quantity=" + quantity +
@@ -2,6 +2,7 @@ package com.garage.backend.inventory.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -30,6 +31,11 @@ public class ProductInventory {
     @Column(name = "reserved_quantity", nullable = false)
     private Integer reservedQuantity = 0;
 
+    // Available stock is below Inventory.minStockLevel; maintained by StockLedgerService
+    @ColumnDefault("false")
+    @Column(name = "below_threshold", nullable = false)
+    private Boolean belowThreshold = false;
+
     @CreatedDate
     @Column(name = "last_updated", nullable = false, updatable = false)
     private LocalDateTime lastUpdated;
@@ -81,6 +87,14 @@ public class ProductInventory {
         this.reservedQuantity = reservedQuantity;
     }
 
+    public Boolean getBelowThreshold() {
+        return belowThreshold;
+    }
+
+    public void setBelowThreshold(Boolean belowThreshold) {
+        this.belowThreshold = belowThreshold;
+    }
+
     public LocalDateTime getLastUpdated() {
         return lastUpdated;
     }
@@ -109,6 +123,7 @@ public class ProductInventory {
                 ", inventoryId=" + inventoryId +
                 ", quantity=" + quantity +
                 ", reservedQuantity=" + reservedQuantity +
+                ", belowThreshold=" + belowThreshold +
                 ", lastUpdated=" + lastUpdated +
                 '}';
     }
@@ -1,12 +1,17 @@
 package com.garage.backend.inventory.repository;
 
+import com.garage.backend.inventory.dto.LowStockItem;
+import com.garage.backend.inventory.dto.PartSearchHit;
 import com.garage.backend.inventory.entity.Inventory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,10 +46,23 @@ public interface InventoryRepository extends JpaRepository<Inventory, UUID> {
     // Check if item code exists
     boolean existsByItemCode(String itemCode);
 
-    // Find items with low stock (below minimum level)
-    @Query("SELECT i FROM Inventory i WHERE i.minStockLevel > 0")
+    // Find items with low stock (available stock below minimum level).
+    // Driven by the maintained Product_Inventory.below_threshold flag and its partial index,
+    // so only the flagged rows are visited rather than the whole catalog.
+    @Query("SELECT i FROM Inventory i JOIN ProductInventory pi ON pi.inventoryId = i.id " +
+           "WHERE pi.belowThreshold = true AND i.isActive = true")
     List<Inventory> findItemsWithLowStock();
 
+    // Low stock items for one branch with their current stock levels, lowest availability first
+    @Query(value = "SELECT new com.garage.backend.inventory.dto.LowStockItem(i.id, i.itemCode, i.itemName, " +
+                   "pi.quantity, pi.reservedQuantity, i.minStockLevel) " +
+                   "FROM Inventory i JOIN ProductInventory pi ON pi.inventoryId = i.id " +
+                   "WHERE i.branchId = :branchId AND pi.belowThreshold = true AND i.isActive = true " +
+                   "ORDER BY pi.quantity - pi.reservedQuantity ASC, i.itemCode ASC",
+           countQuery = "SELECT COUNT(i) FROM Inventory i JOIN ProductInventory pi ON pi.inventoryId = i.id " +
+                        "WHERE i.branchId = :branchId AND pi.belowThreshold = true AND i.isActive = true")
+    Page<LowStockItem> findLowStockItemsByBranch(@Param("branchId") UUID branchId, Pageable pageable);
+
     // Custom query to find inventory by multiple criteria
     @Query("SELECT i FROM Inventory i WHERE " +
            "(:itemName IS NULL OR i.itemName LIKE %:itemName%) AND " +
@@ -63,4 +81,49 @@ public interface InventoryRepository extends JpaRepository<Inventory, UUID> {
 
     // Find items by supplier and branch
     List<Inventory> findBySupplierIdAndBranchId(UUID supplierId, UUID branchId);
+
+    // Count how many of the given items belong to a branch
+    long countByIdInAndBranchId(Collection<UUID> ids, UUID branchId);
+
+    // Minimum word similarity for the fuzzy (<%) match of searchParts, for the current transaction only
+    @Query(value = "SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)", nativeQuery = true)
+    String setFuzzySearchThreshold(@Param("threshold") String threshold);
+
+    // Parts search across all branches: prefix, infix and fuzzy matches on "code name", nearest first.
+    // The inner query is a KNN scan of the GiST trigram index from V5 and stops after :limit rows;
+    // the outer query only breaks score ties by name.
+    @Query(value = "SELECT * FROM (SELECT " + SEARCH_HIT_COLUMNS +
+                   "FROM inventory i " +
+                   "WHERE i.is_active " +
+                   "AND (CAST(:category AS text) IS NULL OR i.category = CAST(:category AS text)) " +
+                   "AND :term <% lower(i.item_code || ' ' || i.item_name) " +
+                   "ORDER BY lower(i.item_code || ' ' || i.item_name) <->> :term " +
+                   "LIMIT :limit) hits " +
+                   "ORDER BY \"score\" DESC, \"itemName\" ASC",
+           nativeQuery = true)
+    List<PartSearchHit> searchParts(@Param("term") String term,
+                                    @Param("category") String category,
+                                    @Param("limit") int limit);
+
+    // Parts search within one branch; same as searchParts with branch_id as an index condition
+    @Query(value = "SELECT * FROM (SELECT " + SEARCH_HIT_COLUMNS +
+                   "FROM inventory i " +
+                   "WHERE i.is_active " +
+                   "AND i.branch_id = :branchId " +
+                   "AND (CAST(:category AS text) IS NULL OR i.category = CAST(:category AS text)) " +
+                   "AND :term <% lower(i.item_code || ' ' || i.item_name) " +
+                   "ORDER BY lower(i.item_code || ' ' || i.item_name) <->> :term " +
+                   "LIMIT :limit) hits " +
+                   "ORDER BY \"score\" DESC, \"itemName\" ASC",
+           nativeQuery = true)
+    List<PartSearchHit> searchPartsInBranch(@Param("term") String term,
+                                            @Param("branchId") UUID branchId,
+                                            @Param("category") String category,
+                                            @Param("limit") int limit);
+
+    // Select list shared by the parts search queries; score is the word similarity in [0, 1]
+    String SEARCH_HIT_COLUMNS = "i.id AS \"id\", i.item_code AS \"itemCode\", i.item_name AS \"itemName\", " +
+                                "i.category AS \"category\", i.unit AS \"unit\", i.selling_price AS \"sellingPrice\", " +
+                                "i.branch_id AS \"branchId\", " +
+                                "CAST(1 - (lower(i.item_code || ' ' || i.item_name) <->> :term) AS double precision) AS \"score\" ";
 }
@@ -2,6 +2,7 @@ package com.garage.backend.inventory.repository;
 
 import com.garage.backend.inventory.entity.InventoryTransfer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -73,4 +74,19 @@ public interface InventoryTransferRepository extends JpaRepository<InventoryTran
 
     // Find transfers between specific branches
     List<InventoryTransfer> findByFromBranchIdAndToBranchId(UUID fromBranchId, UUID toBranchId);
+
+    // Find the lines of a transfer batch
+    List<InventoryTransfer> findByBatchNumberOrderByTransferNumberAsc(String batchNumber);
+
+    // Count the lines of a transfer batch
+    long countByBatchNumber(String batchNumber);
+
+    // Move every line of a batch from one status to the next in a single statement.
+    // Only lines still in :fromStatus match, so of two concurrent transitions the second updates nothing.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InventoryTransfer it SET it.status = :toStatus, it.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE it.batchNumber = :batchNumber AND it.status = :fromStatus")
+    int updateBatchStatus(@Param("batchNumber") String batchNumber,
+                          @Param("fromStatus") String fromStatus,
+                          @Param("toStatus") String toStatus);
 }
@@ -1,12 +1,16 @@
 package com.garage.backend.inventory.repository;
 
 import com.garage.backend.inventory.entity.ProductInventory;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -52,4 +56,91 @@ public interface ProductInventoryRepository extends JpaRepository<ProductInvento
     // Find items with high reserved quantity
     @Query("SELECT pi FROM ProductInventory pi WHERE pi.reservedQuantity > 0")
     List<ProductInventory> findItemsWithReservedStock();
+
+    // Stock ledger operations. Each is a single conditional UPDATE so the availability check and
+    // the write happen atomically under the row lock; a return value of 0 means the guard failed
+    // (or the row does not exist) and nothing was changed.
+
+    // Reserve stock if enough is available (quantity - reservedQuantity >= :quantity)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductInventory pi SET pi.reservedQuantity = pi.reservedQuantity + :quantity, " +
+           "pi.lastUpdated = CURRENT_TIMESTAMP " +
+           "WHERE pi.inventoryId = :inventoryId AND pi.quantity - pi.reservedQuantity >= :quantity")
+    int reserveStock(@Param("inventoryId") UUID inventoryId, @Param("quantity") int quantity);
+
+    // Release previously reserved stock back to available
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductInventory pi SET pi.reservedQuantity = pi.reservedQuantity - :quantity, " +
+           "pi.lastUpdated = CURRENT_TIMESTAMP " +
+           "WHERE pi.inventoryId = :inventoryId AND pi.reservedQuantity >= :quantity")
+    int releaseStock(@Param("inventoryId") UUID inventoryId, @Param("quantity") int quantity);
+
+    // Consume previously reserved stock, removing it from both quantity and reservedQuantity
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductInventory pi SET pi.quantity = pi.quantity - :quantity, " +
+           "pi.reservedQuantity = pi.reservedQuantity - :quantity, pi.lastUpdated = CURRENT_TIMESTAMP " +
+           "WHERE pi.inventoryId = :inventoryId AND pi.reservedQuantity >= :quantity")
+    int consumeReservedStock(@Param("inventoryId") UUID inventoryId, @Param("quantity") int quantity);
+
+    // Adjust on-hand quantity by a signed delta without dropping below what is already reserved
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductInventory pi SET pi.quantity = pi.quantity + :delta, pi.lastUpdated = CURRENT_TIMESTAMP " +
+           "WHERE pi.inventoryId = :inventoryId AND pi.quantity + :delta >= pi.reservedQuantity")
+    int adjustStock(@Param("inventoryId") UUID inventoryId, @Param("delta") int delta);
+
+    // Flag the item as low stock if available stock just dropped below its minimum level.
+    // Returns 1 only on the transition, so concurrent movements raise a single alert.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductInventory pi SET pi.belowThreshold = true " +
+           "WHERE pi.inventoryId = :inventoryId AND pi.belowThreshold = false " +
+           "AND pi.quantity - pi.reservedQuantity < " +
+           "(SELECT i.minStockLevel FROM Inventory i WHERE i.id = pi.inventoryId AND i.isActive = true)")
+    int markBelowThreshold(@Param("inventoryId") UUID inventoryId);
+
+    // Clear the low stock flag once available stock is back at or above the minimum level
+    // (inactive items count as having no minimum)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductInventory pi SET pi.belowThreshold = false " +
+           "WHERE pi.inventoryId = :inventoryId AND pi.belowThreshold = true " +
+           "AND pi.quantity - pi.reservedQuantity >= " +
+           "COALESCE((SELECT i.minStockLevel FROM Inventory i WHERE i.id = pi.inventoryId AND i.isActive = true), 0)")
+    int clearBelowThreshold(@Param("inventoryId") UUID inventoryId);
+
+    // Check whether a stock record exists for an inventory item
+    boolean existsByInventoryId(UUID inventoryId);
+
+    // Multi-item movements (transfer batches). Every stock row is locked by one ordered query, so
+    // concurrent batches over overlapping items always lock in the same order and cannot deadlock;
+    // the changes are then written back as batched entity updates.
+
+    // Lock the stock rows of the given items, in inventory ID order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pi FROM ProductInventory pi WHERE pi.inventoryId IN :inventoryIds ORDER BY pi.inventoryId")
+    List<ProductInventory> lockByInventoryIdsInOrder(@Param("inventoryIds") Collection<UUID> inventoryIds);
+
+    // Stamp lastUpdated on stock rows changed through the entity (the column is not updatable by it)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductInventory pi SET pi.lastUpdated = CURRENT_TIMESTAMP WHERE pi.inventoryId IN :inventoryIds")
+    int touchLastUpdated(@Param("inventoryIds") Collection<UUID> inventoryIds);
+
+    // Items among the given ones that are below their minimum level but not flagged yet.
+    // Exact only while the caller holds the row locks.
+    @Query("SELECT pi.inventoryId FROM ProductInventory pi " +
+           "WHERE pi.inventoryId IN :inventoryIds AND pi.belowThreshold = false " +
+           "AND pi.quantity - pi.reservedQuantity < " +
+           "(SELECT i.minStockLevel FROM Inventory i WHERE i.id = pi.inventoryId AND i.isActive = true)")
+    List<UUID> findNewlyBelowThreshold(@Param("inventoryIds") Collection<UUID> inventoryIds);
+
+    // Flag the given items as low stock
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductInventory pi SET pi.belowThreshold = true WHERE pi.inventoryId IN :inventoryIds")
+    int markBelowThreshold(@Param("inventoryIds") Collection<UUID> inventoryIds);
+
+    // Set-wise clearBelowThreshold
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductInventory pi SET pi.belowThreshold = false " +
+           "WHERE pi.inventoryId IN :inventoryIds AND pi.belowThreshold = true " +
+           "AND pi.quantity - pi.reservedQuantity >= " +
+           "COALESCE((SELECT i.minStockLevel FROM Inventory i WHERE i.id = pi.inventoryId AND i.isActive = true), 0)")
+    int clearBelowThreshold(@Param("inventoryIds") Collection<UUID> inventoryIds);
 }
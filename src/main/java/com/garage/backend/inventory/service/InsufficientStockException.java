@@ -0,0 +1,22 @@
+package com.garage.backend.inventory.service;
+
+import java.util.UUID;
+
+/**
+ * Thrown when a stock ledger operation would leave an item oversold or over-released
+ *
+ * Mapped to 409 Conflict by GlobalExceptionHandler.
+ */
+public class InsufficientStockException extends RuntimeException {
+
+    private final UUID inventoryId;
+
+    public InsufficientStockException(UUID inventoryId, String message) {
+        super(message);
+        this.inventoryId = inventoryId;
+    }
+
+    public UUID getInventoryId() {
+        return inventoryId;
+    }
+}
@@ -0,0 +1,244 @@
+package com.garage.backend.inventory.service;
+
+import com.garage.backend.inventory.dto.TransferBatchRequest;
+import com.garage.backend.inventory.dto.TransferBatchResponse;
+import com.garage.backend.inventory.dto.TransferLineRequest;
+import com.garage.backend.inventory.entity.InventoryAdjustments;
+import com.garage.backend.inventory.entity.InventoryTransfer;
+import com.garage.backend.inventory.entity.ProductInventory;
+import com.garage.backend.inventory.repository.InventoryAdjustmentsRepository;
+import com.garage.backend.inventory.repository.InventoryRepository;
+import com.garage.backend.inventory.repository.InventoryTransferRepository;
+import com.garage.backend.inventory.repository.ProductInventoryRepository;
+import com.garage.backend.shared.enums.Enums.InventoryAdjustmentType;
+import com.garage.backend.shared.enums.Enums.TransferStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Multi-line stock transfers between two branches
+ *
+ * A batch is one InventoryTransfer row per line, sharing a batch number.
+ * Lines are inserted as batched INSERTs and every status change
+ * (PENDING -> IN_TRANSIT -> COMPLETED, or PENDING -> CANCELLED) is a single
+ * UPDATE over the batch, which also stops the same batch being dispatched or
+ * received twice.
+ *
+ * Dispatching takes the quantities off the source items; receiving adds them
+ * to the destination items. All stock rows a step touches are locked by one
+ * query in inventory ID order, so batches running concurrently in opposite
+ * directions between the same branches queue on the first shared row instead
+ * of deadlocking. The stock rows and their Inventory_Adjustments entries are
+ * then written as JDBC batches, and low stock flags are updated set-wise.
+ */
+@Service
+public class InventoryTransferService {
+
+    private static final DateTimeFormatter BATCH_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Autowired
+    private InventoryTransferRepository inventoryTransferRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private ProductInventoryRepository productInventoryRepository;
+
+    @Autowired
+    private InventoryAdjustmentsRepository inventoryAdjustmentsRepository;
+
+    @Autowired
+    private LowStockAlertService lowStockAlertService;
+
+    @Value("${spring.inventory.transfer.max-batch-lines:1000}")
+    private int maxBatchLines;
+
+    /**
+     * Create a transfer batch, PENDING unless completeImmediately is set
+     * @throws InsufficientStockException if completing immediately and a source item lacks available stock
+     */
+    @Transactional
+    public TransferBatchResponse createBatch(TransferBatchRequest request, UUID transferredBy) {
+        validate(request);
+
+        String batchNumber = newBatchNumber();
+        LocalDate transferDate = request.getTransferDate() != null ? request.getTransferDate() : LocalDate.now();
+        boolean complete = Boolean.TRUE.equals(request.getCompleteImmediately());
+        String status = complete ? TransferStatus.COMPLETED.name() : TransferStatus.PENDING.name();
+
+        List<InventoryTransfer> lines = new ArrayList<>(request.getLines().size());
+        int lineNumber = 0;
+        for (TransferLineRequest line : request.getLines()) {
+            InventoryTransfer transfer = new InventoryTransfer(
+                    String.format("%s-%04d", batchNumber, ++lineNumber), line.getInventoryId(),
+                    request.getFromBranchId(), request.getToBranchId(), line.getQuantity(),
+                    transferDate, transferredBy);
+            transfer.setBatchNumber(batchNumber);
+            transfer.setToInventoryId(line.getToInventoryId());
+            transfer.setStatus(status);
+            transfer.setNotes(request.getNotes());
+            lines.add(transfer);
+        }
+        inventoryTransferRepository.saveAll(lines);
+
+        if (complete) {
+            moveStock(lines, true, true, transferredBy);
+        }
+        return toResponse(batchNumber, lines, status);
+    }
+
+    /**
+     * Send a PENDING batch on its way, taking the quantities off the source items
+     * @throws InsufficientStockException if a source item lacks available stock (nothing is dispatched)
+     */
+    @Transactional
+    public TransferBatchResponse dispatchBatch(String batchNumber, UUID dispatchedBy) {
+        List<InventoryTransfer> lines = transition(batchNumber, TransferStatus.PENDING, TransferStatus.IN_TRANSIT);
+        moveStock(lines, true, false, dispatchedBy);
+        return toResponse(batchNumber, lines, TransferStatus.IN_TRANSIT.name());
+    }
+
+    /**
+     * Receive an IN_TRANSIT batch, adding the quantities to the destination items
+     */
+    @Transactional
+    public TransferBatchResponse receiveBatch(String batchNumber, UUID receivedBy) {
+        List<InventoryTransfer> lines = transition(batchNumber, TransferStatus.IN_TRANSIT, TransferStatus.COMPLETED);
+        moveStock(lines, false, true, receivedBy);
+        return toResponse(batchNumber, lines, TransferStatus.COMPLETED.name());
+    }
+
+    /**
+     * Cancel a batch that has not been dispatched yet
+     */
+    @Transactional
+    public TransferBatchResponse cancelBatch(String batchNumber) {
+        List<InventoryTransfer> lines = transition(batchNumber, TransferStatus.PENDING, TransferStatus.CANCELLED);
+        return toResponse(batchNumber, lines, TransferStatus.CANCELLED.name());
+    }
+
+    /**
+     * Get a transfer batch summary
+     */
+    @Transactional(readOnly = true)
+    public TransferBatchResponse getBatch(String batchNumber) {
+        List<InventoryTransfer> lines = inventoryTransferRepository.findByBatchNumberOrderByTransferNumberAsc(batchNumber);
+        if (lines.isEmpty()) {
+            throw new RuntimeException("Transfer batch not found: " + batchNumber);
+        }
+        return toResponse(batchNumber, lines, lines.get(0).getStatus());
+    }
+
+    private void validate(TransferBatchRequest request) {
+        if (request.getFromBranchId().equals(request.getToBranchId())) {
+            throw new RuntimeException("Source and destination branch must be different");
+        }
+        if (request.getLines().size() > maxBatchLines) {
+            throw new RuntimeException("A transfer batch can have at most " + maxBatchLines + " lines");
+        }
+
+        Set<UUID> sources = new HashSet<>();
+        Set<UUID> destinations = new HashSet<>();
+        for (TransferLineRequest line : request.getLines()) {
+            if (!sources.add(line.getInventoryId())) {
+                throw new RuntimeException("Inventory item appears more than once in the batch: " + line.getInventoryId());
+            }
+            destinations.add(line.getToInventoryId());
+        }
+        if (inventoryRepository.countByIdInAndBranchId(sources, request.getFromBranchId()) != sources.size()) {
+            throw new RuntimeException("Every source inventory item must belong to the source branch");
+        }
+        if (inventoryRepository.countByIdInAndBranchId(destinations, request.getToBranchId()) != destinations.size()) {
+            throw new RuntimeException("Every destination inventory item must belong to the destination branch");
+        }
+    }
+
+    private List<InventoryTransfer> transition(String batchNumber, TransferStatus from, TransferStatus to) {
+        long lineCount = inventoryTransferRepository.countByBatchNumber(batchNumber);
+        if (lineCount == 0) {
+            throw new RuntimeException("Transfer batch not found: " + batchNumber);
+        }
+        if (inventoryTransferRepository.updateBatchStatus(batchNumber, from.name(), to.name()) != lineCount) {
+            throw new RuntimeException("Transfer batch " + batchNumber + " is not " + from.name());
+        }
+        return inventoryTransferRepository.findByBatchNumberOrderByTransferNumberAsc(batchNumber);
+    }
+
+    private void moveStock(List<InventoryTransfer> lines, boolean takeFromSource, boolean addToDestination, UUID movedBy) {
+        Map<UUID, Integer> deltas = new HashMap<>();
+        List<InventoryAdjustments> adjustments = new ArrayList<>();
+        for (InventoryTransfer line : lines) {
+            if (takeFromSource) {
+                deltas.merge(line.getInventoryId(), -line.getQuantity(), Integer::sum);
+                adjustments.add(adjustment(line.getInventoryId(), InventoryAdjustmentType.TRANSFER_OUT, line,
+                        "Transfer to branch " + line.getToBranchId(), movedBy));
+            }
+            if (addToDestination) {
+                deltas.merge(line.getToInventoryId(), line.getQuantity(), Integer::sum);
+                adjustments.add(adjustment(line.getToInventoryId(), InventoryAdjustmentType.TRANSFER_IN, line,
+                        "Transfer from branch " + line.getFromBranchId(), movedBy));
+            }
+        }
+
+        List<ProductInventory> stock = productInventoryRepository.lockByInventoryIdsInOrder(deltas.keySet());
+        if (stock.size() != deltas.size()) {
+            Set<UUID> missing = new HashSet<>(deltas.keySet());
+            stock.forEach(row -> missing.remove(row.getInventoryId()));
+            throw new RuntimeException("Stock record not found for inventory item: " + missing.iterator().next());
+        }
+
+        List<UUID> decreased = new ArrayList<>();
+        List<UUID> increased = new ArrayList<>();
+        for (ProductInventory row : stock) {
+            int delta = deltas.get(row.getInventoryId());
+            int quantity = row.getQuantity() + delta;
+            if (quantity < row.getReservedQuantity()) {
+                throw new InsufficientStockException(row.getInventoryId(), "Insufficient available stock to transfer "
+                        + (-delta) + " for inventory item: " + row.getInventoryId());
+            }
+            row.setQuantity(quantity);
+            (delta < 0 ? decreased : increased).add(row.getInventoryId());
+        }
+
+        // Stock updates and ledger inserts go out as JDBC batches on flush
+        inventoryAdjustmentsRepository.saveAll(adjustments);
+        productInventoryRepository.touchLastUpdated(deltas.keySet());
+
+        lowStockAlertService.onStockDecreased(decreased, movedBy);
+        lowStockAlertService.onStockIncreased(increased);
+    }
+
+    private static InventoryAdjustments adjustment(UUID inventoryId, InventoryAdjustmentType type,
+                                                   InventoryTransfer line, String reason, UUID adjustedBy) {
+        InventoryAdjustments adjustment = new InventoryAdjustments(inventoryId, type.name(), line.getQuantity(),
+                reason, adjustedBy);
+        adjustment.setReferenceNumber(line.getTransferNumber());
+        return adjustment;
+    }
+
+    private static String newBatchNumber() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8).toUpperCase(Locale.ROOT);
+        return "TRB-" + LocalDate.now().format(BATCH_DATE) + "-" + suffix;
+    }
+
+    private static TransferBatchResponse toResponse(String batchNumber, List<InventoryTransfer> lines, String status) {
+        InventoryTransfer first = lines.get(0);
+        long totalQuantity = lines.stream().mapToLong(InventoryTransfer::getQuantity).sum();
+        return new TransferBatchResponse(batchNumber, first.getFromBranchId(), first.getToBranchId(), status,
+                first.getTransferDate(), lines.size(), totalQuantity);
+    }
+}
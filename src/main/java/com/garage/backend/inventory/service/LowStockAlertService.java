@@ -0,0 +1,119 @@
+package com.garage.backend.inventory.service;
+
+import com.garage.backend.branch.entity.Branch;
+import com.garage.backend.branch.repository.BranchRepository;
+import com.garage.backend.inventory.entity.Inventory;
+import com.garage.backend.inventory.entity.ProductInventory;
+import com.garage.backend.inventory.repository.InventoryRepository;
+import com.garage.backend.inventory.repository.ProductInventoryRepository;
+import com.garage.backend.notification.entity.Notifications;
+import com.garage.backend.notification.repository.NotificationsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains the Product_Inventory.below_threshold flag and raises low stock alerts
+ *
+ * The flag is flipped by conditional updates that only match on a transition,
+ * so each item produces one alert when it drops below its minimum level and
+ * nothing more until it has been restocked. Alerts are written to
+ * Notifications in the caller's transaction; no part of the catalog is
+ * rescanned to find them.
+ */
+@Service
+public class LowStockAlertService {
+
+    static final String ALERT_TYPE = "SYSTEM";
+
+    @Autowired
+    private ProductInventoryRepository productInventoryRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private NotificationsRepository notificationsRepository;
+
+    /**
+     * Call after available stock for an item went down
+     * @param triggeredBy staff who made the movement, notified when the branch has no manager
+     * @return true if the item just became low on stock and an alert was raised
+     */
+    @Transactional
+    public boolean onStockDecreased(UUID inventoryId, UUID triggeredBy) {
+        if (productInventoryRepository.markBelowThreshold(inventoryId) == 0) {
+            return false;
+        }
+        raiseAlert(inventoryId, triggeredBy);
+        return true;
+    }
+
+    /**
+     * Call after available stock for an item went up
+     */
+    @Transactional
+    public void onStockIncreased(UUID inventoryId) {
+        productInventoryRepository.clearBelowThreshold(inventoryId);
+    }
+
+    /**
+     * Set-wise onStockDecreased for movements over many items (transfer batches)
+     *
+     * The caller must hold the row locks on the items' stock rows
+     * (ProductInventoryRepository.lockByInventoryIdsInOrder); that keeps the
+     * transitions found here exact without a conditional update per item.
+     *
+     * @return number of alerts raised
+     */
+    @Transactional
+    public int onStockDecreased(Collection<UUID> inventoryIds, UUID triggeredBy) {
+        if (inventoryIds.isEmpty()) {
+            return 0;
+        }
+        List<UUID> newlyLow = productInventoryRepository.findNewlyBelowThreshold(inventoryIds);
+        if (newlyLow.isEmpty()) {
+            return 0;
+        }
+        productInventoryRepository.markBelowThreshold(newlyLow);
+        newlyLow.forEach(inventoryId -> raiseAlert(inventoryId, triggeredBy));
+        return newlyLow.size();
+    }
+
+    /**
+     * Set-wise onStockIncreased for movements over many items (transfer batches)
+     */
+    @Transactional
+    public void onStockIncreased(Collection<UUID> inventoryIds) {
+        if (!inventoryIds.isEmpty()) {
+            productInventoryRepository.clearBelowThreshold(inventoryIds);
+        }
+    }
+
+    private void raiseAlert(UUID inventoryId, UUID triggeredBy) {
+        Inventory item = inventoryRepository.findById(inventoryId)
+                .orElseThrow(() -> new RuntimeException("Inventory item not found: " + inventoryId));
+        ProductInventory stock = productInventoryRepository.findByInventoryId(inventoryId)
+                .orElseThrow(() -> new RuntimeException("Stock record not found for inventory item: " + inventoryId));
+
+        UUID recipient = branchRepository.findById(item.getBranchId())
+                .map(Branch::getManagerId)
+                .orElse(null);
+        if (recipient == null) {
+            recipient = triggeredBy;
+        }
+
+        String title = "Low stock: " + item.getItemName() + " (" + item.getItemCode() + ")";
+        String message = "Available stock for " + item.getItemName() + " is " + stock.getAvailableQuantity()
+                + " " + item.getUnit() + ", below the minimum level of " + item.getMinStockLevel()
+                + " (on hand " + stock.getQuantity() + ", reserved " + stock.getReservedQuantity() + ").";
+        notificationsRepository.save(new Notifications(recipient, title, message, ALERT_TYPE));
+    }
+}
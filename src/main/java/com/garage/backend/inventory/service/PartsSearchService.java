@@ -0,0 +1,73 @@
+package com.garage.backend.inventory.service;
+
+import com.garage.backend.inventory.dto.PartSearchHit;
+import com.garage.backend.inventory.repository.InventoryRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Type-ahead parts search over inventory item names and codes
+ *
+ * Matching and ranking are done by pg_trgm word similarity between the term
+ * and "item code + item name": prefix and infix matches of whole words score
+ * high, misspellings a little lower. The query walks the GiST trigram index
+ * from migration V5 in similarity order and stops after the requested number
+ * of rows, so the cost follows the result size rather than the catalog size.
+ * The fuzzy match threshold is set per transaction, so it needs no
+ * database-level configuration.
+ */
+@Service
+public class PartsSearchService {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Value("${spring.inventory.search.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${spring.inventory.search.max-limit:50}")
+    private int maxLimit;
+
+    @Value("${spring.inventory.search.fuzzy-threshold:0.5}")
+    private double fuzzyThreshold;
+
+    /**
+     * Search active parts by name or code
+     * @param query text typed by the user
+     * @param branchId restrict to one branch (optional)
+     * @param category restrict to one category (optional)
+     * @param limit maximum number of results (optional, capped at max-limit)
+     * @return List<PartSearchHit> best matches first
+     */
+    @Timed(value = "garage.inventory.search", histogram = true)
+    @Transactional(readOnly = true)
+    public List<PartSearchHit> search(String query, UUID branchId, String category, Integer limit) {
+        String term = normalize(query);
+        if (term.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int effectiveLimit = limit == null || limit <= 0 ? defaultLimit : Math.min(limit, maxLimit);
+        String filterCategory = category == null || category.isBlank() ? null : category.trim();
+
+        inventoryRepository.setFuzzySearchThreshold(Double.toString(fuzzyThreshold));
+        if (branchId != null) {
+            return inventoryRepository.searchPartsInBranch(term, branchId, filterCategory, effectiveLimit);
+        }
+        return inventoryRepository.searchParts(term, filterCategory, effectiveLimit);
+    }
+
+    private static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,129 @@
+package com.garage.backend.inventory.service;
+
+import com.garage.backend.inventory.entity.InventoryAdjustments;
+import com.garage.backend.inventory.entity.ProductInventory;
+import com.garage.backend.inventory.repository.InventoryAdjustmentsRepository;
+import com.garage.backend.inventory.repository.ProductInventoryRepository;
+import com.garage.backend.shared.enums.Enums.InventoryAdjustmentType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Stock ledger for ProductInventory
+ *
+ * Every movement is a single conditional UPDATE on the stock row (see
+ * ProductInventoryRepository), so concurrent job cards drawing on the same part
+ * serialize on the row lock and the availability check can never be lost
+ * between a read and a write. The matching Inventory_Adjustments row is
+ * appended in the same transaction, so the ledger and the stock level commit
+ * or roll back together.
+ *
+ * Movements that lower available stock (reserve, decrease) may flag the item as
+ * low on stock and raise an alert through LowStockAlertService; movements that
+ * raise it (release, increase) clear the flag. Consume leaves available stock
+ * unchanged because the units were already reserved.
+ *
+ * Lifecycle of stock used on a job card: reserve -> consume (part fitted) or
+ * reserve -> release (job cancelled). adjust covers deliveries, stock counts
+ * and write-offs.
+ */
+@Service
+public class StockLedgerService {
+
+    @Autowired
+    private ProductInventoryRepository productInventoryRepository;
+
+    @Autowired
+    private InventoryAdjustmentsRepository inventoryAdjustmentsRepository;
+
+    @Autowired
+    private LowStockAlertService lowStockAlertService;
+
+    /**
+     * Reserve stock for later consumption
+     * @throws InsufficientStockException if fewer than quantity units are available
+     */
+    @Transactional
+    public ProductInventory reserve(UUID inventoryId, int quantity, String reason, String referenceNumber, UUID adjustedBy) {
+        requirePositive(quantity);
+        if (productInventoryRepository.reserveStock(inventoryId, quantity) == 0) {
+            throw failure(inventoryId, "Insufficient available stock to reserve " + quantity);
+        }
+        return record(inventoryId, InventoryAdjustmentType.RESERVE, quantity, reason, referenceNumber, adjustedBy);
+    }
+
+    /**
+     * Return reserved stock to available
+     * @throws InsufficientStockException if fewer than quantity units are reserved
+     */
+    @Transactional
+    public ProductInventory release(UUID inventoryId, int quantity, String reason, String referenceNumber, UUID adjustedBy) {
+        requirePositive(quantity);
+        if (productInventoryRepository.releaseStock(inventoryId, quantity) == 0) {
+            throw failure(inventoryId, "Cannot release " + quantity + ": not enough stock reserved");
+        }
+        return record(inventoryId, InventoryAdjustmentType.RELEASE, quantity, reason, referenceNumber, adjustedBy);
+    }
+
+    /**
+     * Consume reserved stock, removing it from the on-hand quantity
+     * @throws InsufficientStockException if fewer than quantity units are reserved
+     */
+    @Transactional
+    public ProductInventory consume(UUID inventoryId, int quantity, String reason, String referenceNumber, UUID adjustedBy) {
+        requirePositive(quantity);
+        if (productInventoryRepository.consumeReservedStock(inventoryId, quantity) == 0) {
+            throw failure(inventoryId, "Cannot consume " + quantity + ": not enough stock reserved");
+        }
+        return record(inventoryId, InventoryAdjustmentType.CONSUME, quantity, reason, referenceNumber, adjustedBy);
+    }
+
+    /**
+     * Change the on-hand quantity by a signed delta (deliveries, stock counts, write-offs)
+     * @throws InsufficientStockException if a decrease would drop quantity below what is reserved
+     */
+    @Transactional
+    public ProductInventory adjust(UUID inventoryId, int delta, String reason, String referenceNumber, UUID adjustedBy) {
+        if (delta == 0) {
+            throw new IllegalArgumentException("Adjustment delta must not be zero");
+        }
+        if (productInventoryRepository.adjustStock(inventoryId, delta) == 0) {
+            throw failure(inventoryId, "Cannot adjust stock by " + delta + ": quantity would drop below reserved stock");
+        }
+        InventoryAdjustmentType type = delta > 0 ? InventoryAdjustmentType.INCREASE : InventoryAdjustmentType.DECREASE;
+        return record(inventoryId, type, Math.abs(delta), reason, referenceNumber, adjustedBy);
+    }
+
+    private ProductInventory record(UUID inventoryId, InventoryAdjustmentType type, int quantity,
+                                    String reason, String referenceNumber, UUID adjustedBy) {
+        InventoryAdjustments adjustment = new InventoryAdjustments(inventoryId, type.name(), quantity, reason, adjustedBy);
+        adjustment.setReferenceNumber(referenceNumber);
+        inventoryAdjustmentsRepository.save(adjustment);
+
+        if (type == InventoryAdjustmentType.RESERVE || type == InventoryAdjustmentType.DECREASE) {
+            lowStockAlertService.onStockDecreased(inventoryId, adjustedBy);
+        } else if (type == InventoryAdjustmentType.RELEASE || type == InventoryAdjustmentType.INCREASE) {
+            lowStockAlertService.onStockIncreased(inventoryId);
+        }
+
+        // The conditional update cleared the persistence context, so this returns the updated row
+        return productInventoryRepository.findByInventoryId(inventoryId)
+                .orElseThrow(() -> new RuntimeException("Stock record not found for inventory item: " + inventoryId));
+    }
+
+    private RuntimeException failure(UUID inventoryId, String message) {
+        if (!productInventoryRepository.existsByInventoryId(inventoryId)) {
+            return new RuntimeException("Stock record not found for inventory item: " + inventoryId);
+        }
+        return new InsufficientStockException(inventoryId, message + " for inventory item: " + inventoryId);
+    }
+
+    private static void requirePositive(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be greater than zero");
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -70,4 +71,12 @@ public interface JobCardsRepository extends JpaRepository<JobCards, UUID> {
      * @return List<JobCards>
      */
     List<JobCards> findByVehicleIdAndStatus(UUID vehicleId, String status);
-} 
\ No newline at end of file
+
+    /**
+     * Find which of the given job card IDs exist
+     * @param ids job card IDs
+     * @return List<UUID> IDs that exist
+     */
+    @Query("SELECT j.id FROM JobCards j WHERE j.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+}
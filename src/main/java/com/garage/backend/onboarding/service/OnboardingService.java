@@ -17,6 +17,7 @@ import com.garage.backend.shared.service.GarageContextService;
 import com.garage.backend.staff.dto.CreateStaffRequest;
 import com.garage.backend.staff.dto.StaffResponse;
 import com.garage.backend.staff.service.StaffService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -45,6 +46,7 @@ public class OnboardingService {
     /**
      * Complete onboarding flow in a single transaction
      */
+    @Timed(value = "garage.service", extraTags = {"operation", "onboarding.complete"}, histogram = true)
     @Transactional
     public OnboardingResponse completeOnboarding(OnboardingRequest request) {
         try {
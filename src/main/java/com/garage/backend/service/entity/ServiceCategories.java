@@ -1,9 +1,12 @@
 package com.garage.backend.service.entity;
 
+import com.garage.backend.config.ReferenceDataCacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,6 +17,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "Service_Categories")
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceDataCacheRegions.SERVICE_CATEGORIES)
 public class ServiceCategories {
 
     @Id
@@ -1,8 +1,11 @@
 package com.garage.backend.service.repository;
 
 import com.garage.backend.service.entity.ServiceCategories;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,9 +20,11 @@ public interface ServiceCategoriesRepository extends JpaRepository<ServiceCatego
     Optional<ServiceCategories> findByCategoryName(String categoryName);
 
     // Find by category code
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ServiceCategories> findByCategoryCode(String categoryCode);
 
     // Find active categories
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ServiceCategories> findByIsActiveTrue();
 
     // Find by category name containing text
@@ -1,8 +1,11 @@
 package com.garage.backend.service.repository;
 
 import com.garage.backend.service.entity.ServicePackages;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +17,7 @@ import java.util.UUID;
 public interface ServicePackagesRepository extends JpaRepository<ServicePackages, UUID> {
 
     // Find by service category ID
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ServicePackages> findByServiceCategoryId(UUID serviceCategoryId);
 
     // Find by package name containing text
@@ -29,6 +33,7 @@ public interface ServicePackagesRepository extends JpaRepository<ServicePackages
     List<ServicePackages> findByCreatedBy(UUID createdBy);
 
     // Find active packages
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ServicePackages> findByIsActiveTrue();
 
     // Find by estimated cost range
@@ -0,0 +1,49 @@
+package com.garage.backend.settings.dto;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Cheap fingerprint of the Settings table: row count and latest update time
+ *
+ * Any insert or delete changes the count and any update moves the latest
+ * updated_at, so comparing two versions tells whether a node's in-memory
+ * settings snapshot is stale without reading the rows.
+ */
+public class SettingsVersion {
+
+    private final long count;
+    private final LocalDateTime lastUpdatedAt;
+
+    public SettingsVersion(long count, LocalDateTime lastUpdatedAt) {
+        this.count = count;
+        this.lastUpdatedAt = lastUpdatedAt;
+    }
+
+    // Getters
+    public long getCount() {
+        return count;
+    }
+
+    public LocalDateTime getLastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SettingsVersion)) return false;
+        SettingsVersion that = (SettingsVersion) o;
+        return count == that.count && Objects.equals(lastUpdatedAt, that.lastUpdatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, lastUpdatedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "SettingsVersion{count=" + count + ", lastUpdatedAt=" + lastUpdatedAt + "}";
+    }
+}
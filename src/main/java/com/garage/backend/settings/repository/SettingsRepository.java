@@ -1,8 +1,12 @@
 package com.garage.backend.settings.repository;
 
+import com.garage.backend.settings.dto.SettingsVersion;
 import com.garage.backend.settings.entity.Settings;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,9 +18,11 @@ import java.util.UUID;
 public interface SettingsRepository extends JpaRepository<Settings, UUID> {
 
     // Find by setting key
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Settings> findBySettingKey(String settingKey);
 
     // Find by category
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Settings> findByCategory(String category);
 
     // Find by category containing text
@@ -57,4 +63,8 @@ public interface SettingsRepository extends JpaRepository<Settings, UUID> {
 
     // Find settings by setting value
     List<Settings> findBySettingValue(String settingValue);
+
+    // Row count and latest update time, used to detect a stale in-memory settings snapshot
+    @Query("SELECT new com.garage.backend.settings.dto.SettingsVersion(COUNT(s), MAX(s.updatedAt)) FROM Settings s")
+    SettingsVersion findVersion();
 }
@@ -2,24 +2,47 @@ package com.garage.backend.settings.service;
 
 import com.garage.backend.settings.dto.CreateSettingRequest;
 import com.garage.backend.settings.dto.SettingResponse;
+import com.garage.backend.settings.dto.SettingsVersion;
 import com.garage.backend.settings.entity.Settings;
 import com.garage.backend.settings.repository.SettingsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+/**
+ * Settings management backed by an in-memory snapshot
+ *
+ * Reads by ID, key and category are served from an immutable SettingsSnapshot;
+ * every create/update/delete on this node swaps in an updated copy. Other
+ * nodes' writes are picked up by a periodic reconciliation that compares the
+ * table's version (row count and latest updated_at) and reloads on change.
+ * Local writes keep the version last read from the table, so the first
+ * reconciliation after one always reloads.
+ */
 @Service
 public class SettingsService {
 
+    private static final Logger logger = LoggerFactory.getLogger(SettingsService.class);
+
     @Autowired
     private SettingsRepository settingsRepository;
 
+    @Value("${spring.settings.snapshot.reconcile-enabled:true}")
+    private boolean reconcileEnabled;
+
+    private final AtomicReference<SettingsSnapshot> snapshot = new AtomicReference<>();
+
     /**
      * Create a new setting
      */
@@ -37,31 +60,29 @@ public class SettingsService {
         setting.setIsEditable(request.getIsEditable());
 
         Settings savedSetting = settingsRepository.save(setting);
-        return convertToResponse(savedSetting);
+        return publish(savedSetting);
     }
 
     /**
      * Get setting by ID
      */
     public SettingResponse getSettingById(UUID id) {
-        Optional<Settings> settingOptional = settingsRepository.findById(id);
-        if (settingOptional.isPresent()) {
-            return convertToResponse(settingOptional.get());
-        } else {
+        SettingResponse setting = currentSnapshot().findById(id);
+        if (setting == null) {
             throw new RuntimeException("Setting not found with ID: " + id);
         }
+        return setting;
     }
 
     /**
      * Get setting by key
      */
     public SettingResponse getSettingByKey(String settingKey) {
-        Optional<Settings> settingOptional = settingsRepository.findBySettingKey(settingKey);
-        if (settingOptional.isPresent()) {
-            return convertToResponse(settingOptional.get());
-        } else {
+        SettingResponse setting = currentSnapshot().findByKey(settingKey);
+        if (setting == null) {
             throw new RuntimeException("Setting not found with key: " + settingKey);
         }
+        return setting;
     }
 
     /**
@@ -76,10 +97,7 @@ public class SettingsService {
      * Get settings by category
      */
     public List<SettingResponse> getSettingsByCategory(String category) {
-        List<Settings> settings = settingsRepository.findByCategory(category);
-        return settings.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return currentSnapshot().findByCategory(category);
     }
 
     /**
@@ -111,7 +129,7 @@ public class SettingsService {
         setting.setIsEditable(request.getIsEditable());
 
         Settings savedSetting = settingsRepository.save(setting);
-        return convertToResponse(savedSetting);
+        return publish(savedSetting);
     }
 
     /**
@@ -132,7 +150,7 @@ public class SettingsService {
 
         setting.setSettingValue(newValue);
         Settings savedSetting = settingsRepository.save(setting);
-        return convertToResponse(savedSetting);
+        return publish(savedSetting);
     }
 
     /**
@@ -152,6 +170,66 @@ public class SettingsService {
         }
 
         settingsRepository.delete(setting);
+        snapshot.updateAndGet(current -> current != null ? current.without(id) : null);
+    }
+
+    /**
+     * Reload the snapshot when another node has changed the Settings table
+     *
+     * Compares the table version with the snapshot's; a full reload only
+     * happens when they differ.
+     */
+    @Scheduled(fixedDelayString = "${spring.settings.snapshot.reconcile-interval-ms:30000}")
+    public void reconcileSnapshot() {
+        SettingsSnapshot current = snapshot.get();
+        if (!reconcileEnabled || current == null) {
+            return;
+        }
+        try {
+            if (!settingsRepository.findVersion().equals(current.getVersion())) {
+                reloadSnapshot();
+            }
+        } catch (Exception e) {
+            logger.warn("Settings snapshot reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Replace the snapshot with the current contents of the Settings table
+     */
+    public void reloadSnapshot() {
+        // Read the version first so a concurrent write can only make it look stale, never fresh
+        SettingsVersion version = settingsRepository.findVersion();
+        List<SettingResponse> settings = settingsRepository.findAll().stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+        snapshot.set(new SettingsSnapshot(settings, version));
+    }
+
+    /**
+     * Get the current snapshot, loading it on first use
+     */
+    private SettingsSnapshot currentSnapshot() {
+        SettingsSnapshot current = snapshot.get();
+        if (current == null) {
+            synchronized (snapshot) {
+                current = snapshot.get();
+                if (current == null) {
+                    reloadSnapshot();
+                    current = snapshot.get();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Swap a saved setting into the snapshot and return its response
+     */
+    private SettingResponse publish(Settings savedSetting) {
+        SettingResponse response = convertToResponse(savedSetting);
+        snapshot.updateAndGet(current -> current != null ? current.with(response) : null);
+        return response;
     }
 
     /**
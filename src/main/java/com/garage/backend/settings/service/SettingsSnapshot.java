@@ -0,0 +1,93 @@
+package com.garage.backend.settings.service;
+
+import com.garage.backend.settings.dto.SettingResponse;
+import com.garage.backend.settings.dto.SettingsVersion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable view of every setting, indexed by ID, key and category
+ *
+ * Lookups return prebuilt responses and prebuilt unmodifiable category lists,
+ * so reads allocate nothing. Changes never mutate an existing snapshot; they
+ * return a new one that SettingsService swaps in atomically.
+ *
+ * The version is always the one last read from the Settings table. Local
+ * changes carry it over unchanged: deriving it from a local write could match
+ * the table's fingerprint while another node's earlier write is still missing.
+ */
+final class SettingsSnapshot {
+
+    private final Map<UUID, SettingResponse> byId;
+    private final Map<String, SettingResponse> byKey;
+    private final Map<String, List<SettingResponse>> byCategory;
+    private final SettingsVersion version;
+
+    SettingsSnapshot(Collection<SettingResponse> settings, SettingsVersion version) {
+        Map<UUID, SettingResponse> ids = new HashMap<>();
+        Map<String, SettingResponse> keys = new HashMap<>();
+        Map<String, List<SettingResponse>> categories = new HashMap<>();
+        for (SettingResponse setting : settings) {
+            ids.put(setting.getId(), setting);
+            keys.put(setting.getSettingKey(), setting);
+            categories.computeIfAbsent(setting.getCategory(), category -> new ArrayList<>()).add(setting);
+        }
+        categories.replaceAll((category, list) -> Collections.unmodifiableList(list));
+
+        this.byId = Collections.unmodifiableMap(ids);
+        this.byKey = Collections.unmodifiableMap(keys);
+        this.byCategory = Collections.unmodifiableMap(categories);
+        this.version = version;
+    }
+
+    SettingResponse findById(UUID id) {
+        return byId.get(id);
+    }
+
+    SettingResponse findByKey(String settingKey) {
+        return byKey.get(settingKey);
+    }
+
+    List<SettingResponse> findByCategory(String category) {
+        return byCategory.getOrDefault(category, Collections.emptyList());
+    }
+
+    SettingsVersion getVersion() {
+        return version;
+    }
+
+    /**
+     * Copy of this snapshot with the given setting added or replaced (matched by ID)
+     *
+     * Returns this snapshot unchanged when it already holds a newer version of
+     * the setting, so a slow writer cannot overwrite a faster one's update.
+     */
+    SettingsSnapshot with(SettingResponse setting) {
+        SettingResponse existing = byId.get(setting.getId());
+        if (existing != null && existing.getUpdatedAt() != null && setting.getUpdatedAt() != null
+                && existing.getUpdatedAt().isAfter(setting.getUpdatedAt())) {
+            return this;
+        }
+        Map<UUID, SettingResponse> settings = new HashMap<>(byId);
+        settings.put(setting.getId(), setting);
+        return new SettingsSnapshot(settings.values(), version);
+    }
+
+    /**
+     * Copy of this snapshot without the setting with the given ID
+     */
+    SettingsSnapshot without(UUID id) {
+        if (!byId.containsKey(id)) {
+            return this;
+        }
+        Map<UUID, SettingResponse> settings = new HashMap<>(byId);
+        settings.remove(id);
+        return new SettingsSnapshot(settings.values(), version);
+    }
+}
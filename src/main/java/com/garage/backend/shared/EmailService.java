@@ -1,14 +1,21 @@
 package com.garage.backend.shared;
 
+import java.time.LocalDateTime;
+
 public interface EmailService {
     
     /**
      * Send OTP via Email
+     * 
+     * The email is durably queued and delivered in the background, so this
+     * returns without waiting for the mail server.
+     * 
      * @param email The email address to send OTP to
      * @param message The message template with OTP placeholder
-     * @return true if email sent successfully, false otherwise
+     * @param expiresAt When the OTP expires; the email is not sent after this
+     * @return true if email was queued successfully, false otherwise
      */
-    boolean sendOTP(String email, String message);
+    boolean sendOTP(String email, String message, LocalDateTime expiresAt);
     
     /**
      * Verify if the service is available
@@ -1,16 +1,21 @@
 package com.garage.backend.shared;
 
+import com.garage.backend.shared.service.EmailOutboxService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 @Service
 public class SMTPEmailService implements EmailService {
     
+    private static final Logger logger = LoggerFactory.getLogger(SMTPEmailService.class);
+    
     @Autowired
-    private JavaMailSender mailSender;
+    private EmailOutboxService emailOutboxService;
     
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -20,25 +25,20 @@ public class SMTPEmailService implements EmailService {
     
     private static final String EMAIL_SUBJECT = "PitStop Verification Code";
     private static final String EMAIL_BODY_TEMPLATE = 
-        "Your PitStop verification code is: %s\n\n" +
-        "This code is valid for 2 minutes.\n\n" +
+        "%s\n\n" +
         "If you didn't request this code, please ignore this email.\n\n" +
         "Best regards,\nPitStop Team";
     
     @Override
-    public boolean sendOTP(String email, String message) {
+    public boolean sendOTP(String email, String message, LocalDateTime expiresAt) {
         try {
-            SimpleMailMessage mailMessage = new SimpleMailMessage();
-            mailMessage.setFrom(fromEmail);
-            mailMessage.setTo(email);
-            mailMessage.setSubject(EMAIL_SUBJECT);
-            mailMessage.setText(String.format(EMAIL_BODY_TEMPLATE, message));
-            
-            mailSender.send(mailMessage);
+            // Delivery happens in the background; the code is useless once it has expired
+            emailOutboxService.enqueue(email, EMAIL_SUBJECT, String.format(EMAIL_BODY_TEMPLATE, message),
+                    expiresAt);
             return true;
             
         } catch (Exception e) {
-            System.err.println("Error sending email: " + e.getMessage());
+            logger.error("Error queueing email: {}", e.getMessage(), e);
             return false;
         }
     }
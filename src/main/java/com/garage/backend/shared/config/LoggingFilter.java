@@ -5,44 +5,88 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Access log stage: one structured record per request
+ *
+ * Records method, route template (never the raw URI or query string), status
+ * and latency on the "ACCESS_LOG" logger, which logback-spring.xml routes
+ * through an asynchronous appender. Successful (2xx) responses are sampled at
+ * logging.access.sample-rate-2xx; everything else is always logged.
+ *
+ * Latency is also recorded by the http.server.requests timer, which publishes
+ * a percentile histogram (see management.metrics.distribution in application.yml).
+ */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class LoggingFilter implements Filter {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingFilter.class);
+    private static final Logger accessLogger = LoggerFactory.getLogger("ACCESS_LOG");
+
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    @Value("${logging.access.enabled:true}")
+    private boolean enabled;
+
+    @Value("${logging.access.sample-rate-2xx:1.0}")
+    private double successSampleRate;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
-        
+
+        if (!enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
-        
-        String method = httpRequest.getMethod();
-        String uri = httpRequest.getRequestURI();
-        String queryString = httpRequest.getQueryString();
-        String fullUrl = queryString != null ? uri + "?" + queryString : uri;
-        
-        // Log request
-        logger.info("REQUEST: {} {}", method, fullUrl);
-        
+        long start = System.nanoTime();
+
         try {
             chain.doFilter(request, response);
-            
-            // Log response
-            int statusCode = httpResponse.getStatus();
-            logger.info("RESPONSE: {} {} - Status: {}", method, fullUrl, statusCode);
-            
-        } catch (Exception e) {
+            logAccess(httpRequest, httpResponse.getStatus(), start);
+
+        } catch (IOException | ServletException | RuntimeException e) {
+            logAccess(httpRequest, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, start);
             // Log exception with full stack trace
-            logger.error("EXCEPTION: {} {} - Error: {}", method, fullUrl, e.getMessage(), e);
+            logger.error("EXCEPTION: {} {} - Error: {}", httpRequest.getMethod(), route(httpRequest), e.getMessage(), e);
             throw e;
         }
     }
+
+    private void logAccess(HttpServletRequest request, int status, long start) {
+        if (!accessLogger.isInfoEnabled() || !sampled(status)) {
+            return;
+        }
+        long micros = (System.nanoTime() - start) / 1_000;
+        accessLogger.info("method={} route={} status={} duration_ms={}.{}",
+                request.getMethod(), route(request), status, micros / 1_000, String.format("%03d", micros % 1_000));
+    }
+
+    private boolean sampled(int status) {
+        if (status < 200 || status >= 300 || successSampleRate >= 1.0) {
+            return true;
+        }
+        return successSampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < successSampleRate;
+    }
+
+    /**
+     * Route template chosen by Spring MVC (e.g. /admin/customers/{id}), so records
+     * stay low-cardinality and never contain IDs or query parameters
+     */
+    private String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+    }
 }
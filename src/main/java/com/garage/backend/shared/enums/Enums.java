@@ -67,4 +67,27 @@ public class Enums {
         CANCELLED,
         ASSIGNED
     }
+
+    /**
+     * Stock ledger movement types recorded in Inventory_Adjustments
+     */
+    public enum InventoryAdjustmentType {
+        INCREASE,
+        DECREASE,
+        RESERVE,
+        RELEASE,
+        CONSUME,
+        TRANSFER_OUT,
+        TRANSFER_IN
+    }
+
+    /**
+     * Inventory transfer status, shared by every line of a transfer batch
+     */
+    public enum TransferStatus {
+        PENDING,
+        IN_TRANSIT,
+        COMPLETED,
+        CANCELLED
+    }
 }
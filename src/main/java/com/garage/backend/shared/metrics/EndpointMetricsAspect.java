@@ -0,0 +1,148 @@
+package com.garage.backend.shared.metrics;
+
+import com.garage.backend.shared.service.TenantContext;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records per-endpoint metrics for every REST controller method
+ *
+ * For each call it records:
+ * - garage.endpoint.latency: timer with a percentile histogram and SLO buckets
+ * - garage.endpoint.db.statements: SQL statements prepared during the call
+ * - garage.endpoint.request.bytes: request payload size (when the client sends Content-Length)
+ *
+ * All three are tagged with route template, controller method, status and garage.
+ * To keep cardinality bounded, only the first max-garage-tags garages seen get
+ * their own tag value; later ones are reported as "other".
+ */
+@Aspect
+@Component
+public class EndpointMetricsAspect {
+
+    private static final String NO_GARAGE = "none";
+    private static final String OTHER_GARAGE = "other";
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${management.metrics.endpoints.enabled:true}")
+    private boolean enabled;
+
+    @Value("${management.metrics.endpoints.max-garage-tags:100}")
+    private int maxGarageTags;
+
+    private final Duration[] serviceLevelObjectives;
+    private final Set<String> taggedGarages = ConcurrentHashMap.newKeySet();
+
+    public EndpointMetricsAspect(@Value("${management.metrics.endpoints.slo:100ms,250ms,500ms,1s}") String[] slo) {
+        this.serviceLevelObjectives = Arrays.stream(slo)
+                .map(String::trim)
+                .map(DurationStyle::detectAndParse)
+                .toArray(Duration[]::new);
+    }
+
+    @Around("within(com.garage.backend..*) && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        HttpServletRequest request = currentRequest();
+        if (!enabled || request == null) {
+            return joinPoint.proceed();
+        }
+
+        long statementsBefore = StatementCountingInspector.currentCount();
+        long start = System.nanoTime();
+        String status = "exception";
+        try {
+            Object result = joinPoint.proceed();
+            status = result instanceof ResponseEntity<?> entity
+                    ? String.valueOf(entity.getStatusCode().value())
+                    : "200";
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long statements = StatementCountingInspector.currentCount() - statementsBefore;
+
+            Tags tags = Tags.of(
+                    "route", route(request),
+                    "handler", joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName(),
+                    "status", status,
+                    "garage", garageTag());
+
+            Timer.builder("garage.endpoint.latency")
+                    .description("Controller method latency")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .serviceLevelObjectives(serviceLevelObjectives)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+
+            DistributionSummary.builder("garage.endpoint.db.statements")
+                    .description("SQL statements prepared per controller call")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(statements);
+
+            long requestBytes = request.getContentLengthLong();
+            if (requestBytes >= 0) {
+                DistributionSummary.builder("garage.endpoint.request.bytes")
+                        .description("Request payload size per controller call")
+                        .baseUnit("bytes")
+                        .tags(tags)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(requestBytes);
+            }
+        }
+    }
+
+    private HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes
+                ? servletAttributes.getRequest()
+                : null;
+    }
+
+    private String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_ROUTE;
+    }
+
+    private String garageTag() {
+        UUID garageId = TenantContext.current().getGarageId();
+        if (garageId == null) {
+            return NO_GARAGE;
+        }
+        String value = garageId.toString();
+        if (taggedGarages.contains(value)) {
+            return value;
+        }
+        if (taggedGarages.size() < maxGarageTags && taggedGarages.add(value)) {
+            return value;
+        }
+        return OTHER_GARAGE;
+    }
+}
@@ -0,0 +1,30 @@
+package com.garage.backend.shared.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate StatementInspector that counts prepared SQL statements per thread
+ *
+ * Registered through hibernate.session_factory.statement_inspector, so Hibernate
+ * creates the instance itself; the counter is therefore static. The SQL is
+ * passed through unchanged. EndpointMetricsAspect reads the counter before and
+ * after each controller call to derive statements per request.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Get the number of statements prepared on the current thread so far
+     * @return long monotonically increasing statement count
+     */
+    public static long currentCount() {
+        return COUNT.get()[0];
+    }
+}
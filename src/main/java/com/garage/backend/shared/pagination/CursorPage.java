@@ -0,0 +1,108 @@
+package com.garage.backend.shared.pagination;
+
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Response wrapper for keyset (cursor) paginated listings
+ *
+ * Unlike Page, no total count is computed. Pass nextCursor back as the
+ * "after" parameter to fetch the following page; it is null on the last page.
+ */
+public class CursorPage<T> {
+
+    /**
+     * Largest page a cursor listing returns; larger requested sizes are capped
+     */
+    public static final int MAX_SIZE = 100;
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+
+    // Constructors
+    public CursorPage() {}
+
+    public CursorPage(List<T> content, String nextCursor, boolean hasNext, int size) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.size = size;
+    }
+
+    /**
+     * Build a cursor page from a keyset window, mapping each element
+     * @param window window returned by a scroll query
+     * @param timestampProperty entity property holding the timestamp part of the sort key
+     * @param mapper element mapper
+     * @return CursorPage<R>
+     */
+    public static <E, R> CursorPage<R> of(Window<E> window, String timestampProperty, Function<E, R> mapper) {
+        List<R> content = window.getContent().stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return of(window, timestampProperty, content);
+    }
+
+    /**
+     * Build a cursor page from a keyset window and already mapped content
+     * @param window window returned by a scroll query
+     * @param timestampProperty entity property holding the timestamp part of the sort key
+     * @param content mapped content, in window order
+     * @return CursorPage<R>
+     */
+    public static <E, R> CursorPage<R> of(Window<E> window, String timestampProperty, List<R> content) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = KeysetCursor.fromScrollPosition(
+                    window.positionAt(window.size() - 1), timestampProperty);
+        }
+        return new CursorPage<>(content, nextCursor, window.hasNext(), content.size());
+    }
+
+    /**
+     * Clamp a requested page size to 1..MAX_SIZE
+     * @param size requested page size
+     * @return int page size to query with
+     */
+    public static int effectiveSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    // Getters and Setters
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,99 @@
+package com.garage.backend.shared.pagination;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Opaque cursor for keyset pagination over a (timestamp, id) sort key
+ *
+ * The token is a URL-safe Base64 encoding of "timestamp|id". Clients must
+ * treat it as opaque and only pass back the value returned as nextCursor.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime timestamp;
+    private final UUID id;
+
+    public KeysetCursor(LocalDateTime timestamp, UUID id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Encode this cursor as an opaque token
+     * @return String URL-safe token
+     */
+    public String encode() {
+        String raw = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode an opaque token produced by {@link #encode()}
+     * @param token cursor token
+     * @return KeysetCursor
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new RuntimeException("Invalid cursor: " + token);
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid cursor: " + token);
+        }
+    }
+
+    /**
+     * Build the scroll position to resume after the given token
+     * @param token cursor token, or null/blank for the first page
+     * @param timestampProperty entity property holding the timestamp part of the sort key
+     * @return ScrollPosition for a (timestampProperty, id) keyset
+     */
+    public static ScrollPosition toScrollPosition(String token, String timestampProperty) {
+        if (token == null || token.trim().isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        KeysetCursor cursor = decode(token);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(timestampProperty, cursor.getTimestamp());
+        keys.put("id", cursor.getId());
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Build the token for a scroll position returned by a Window
+     * @param position keyset position of the last element in a window
+     * @param timestampProperty entity property holding the timestamp part of the sort key
+     * @return String cursor token
+     */
+    public static String fromScrollPosition(ScrollPosition position, String timestampProperty) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Expected a keyset scroll position");
+        }
+        Map<String, ?> keys = keyset.getKeys();
+        return new KeysetCursor((LocalDateTime) keys.get(timestampProperty), (UUID) keys.get("id")).encode();
+    }
+}
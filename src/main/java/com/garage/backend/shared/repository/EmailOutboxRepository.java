@@ -0,0 +1,76 @@
+package com.garage.backend.shared.repository;
+
+import com.garage.backend.shared.entity.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    /**
+     * Lock the next pending emails that are due for an attempt
+     *
+     * SKIP LOCKED lets several application instances poll the outbox at the
+     * same time without handing the same row to two senders.
+     *
+     * @param now current time
+     * @param limit maximum number of rows
+     * @return List<EmailOutbox> locked rows, oldest due first
+     */
+    @Query(value = "SELECT * FROM email_outbox " +
+                   "WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "AND (expires_at IS NULL OR expires_at > :now) " +
+                   "ORDER BY next_attempt_at " +
+                   "LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<EmailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Mark emails as sent
+     * @param ids email IDs
+     * @param sentAt delivery time
+     * @return int number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = 'SENT', e.sentAt = :sentAt, e.lastError = NULL " +
+           "WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Return emails stuck in SENDING, e.g. after a crash mid-delivery, to the queue
+     * @param claimedBefore claims older than this are considered abandoned
+     * @return int number of rows released
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = 'PENDING' " +
+           "WHERE e.status = 'SENDING' AND e.claimedAt < :claimedBefore")
+    int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+    /**
+     * Give up on pending emails whose content is no longer useful
+     * @param now current time
+     * @return int number of rows expired
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = 'EXPIRED' " +
+           "WHERE e.status = 'PENDING' AND e.expiresAt IS NOT NULL AND e.expiresAt <= :now")
+    int expirePending(@Param("now") LocalDateTime now);
+
+    /**
+     * Delete delivered and abandoned emails; their bodies can hold OTP codes
+     * @param createdBefore only rows queued before this are deleted
+     * @return int number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e " +
+           "WHERE e.status IN ('SENT', 'FAILED', 'EXPIRED') AND e.createdAt < :createdBefore")
+    int deleteFinishedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
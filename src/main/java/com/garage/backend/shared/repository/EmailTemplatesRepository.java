@@ -1,8 +1,11 @@
 package com.garage.backend.shared.repository;
 
 import com.garage.backend.shared.entity.EmailTemplates;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +17,7 @@ import java.util.UUID;
 public interface EmailTemplatesRepository extends JpaRepository<EmailTemplates, UUID> {
 
     // Find by template name
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<EmailTemplates> findByTemplateName(String templateName);
 
     // Find by template name containing text
@@ -23,6 +27,7 @@ public interface EmailTemplatesRepository extends JpaRepository<EmailTemplates,
     List<EmailTemplates> findByTemplateType(String templateType);
 
     // Find active templates
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<EmailTemplates> findByIsActiveTrue();
 
     // Find by subject containing text
@@ -1,8 +1,11 @@
 package com.garage.backend.shared.repository;
 
 import com.garage.backend.shared.entity.PaymentMethod;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +17,7 @@ import java.util.UUID;
 public interface PaymentMethodRepository extends JpaRepository<PaymentMethod, UUID> {
 
     // Find by method name
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<PaymentMethod> findByMethodName(String methodName);
 
     // Find by method name containing text
@@ -23,6 +27,7 @@ public interface PaymentMethodRepository extends JpaRepository<PaymentMethod, UU
     List<PaymentMethod> findByMethodType(String methodType);
 
     // Find active payment methods
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<PaymentMethod> findByIsActiveTrue();
 
     // Find by processing fee percentage
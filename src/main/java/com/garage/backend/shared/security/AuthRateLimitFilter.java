@@ -0,0 +1,234 @@
+package com.garage.backend.shared.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits the unauthenticated credential and OTP endpoints per client IP and per email
+ *
+ * Runs as a plain servlet filter right after request logging, so rejected
+ * requests never reach Spring Security, JwtAuthenticationFilter, BCrypt or
+ * the OTP mailer. Rejections answer 429 with a Retry-After header. Decisions
+ * are counted in "auth.rate_limit.requests" tagged by endpoint and outcome.
+ *
+ * The client IP is the servlet remote address; behind a proxy, enable
+ * server.forward-headers-strategy so it reflects the real client.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final List<String> LIMITED_PATHS = List.of(
+            "/admin/login",
+            "/admin/send-login-otp",
+            "/admin/forgot-password"
+    );
+
+    /**
+     * Bodies of the limited endpoints are a few small JSON fields
+     */
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private static final String OUTCOME_ALLOWED = "allowed";
+    private static final String OUTCOME_REJECTED_IP = "rejected_ip";
+    private static final String OUTCOME_REJECTED_EMAIL = "rejected_email";
+
+    private final boolean enabled;
+    private final RateLimiter ipLimiter;
+    private final RateLimiter emailLimiter;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    public AuthRateLimitFilter(@Value("${spring.security.rate-limit.enabled:true}") boolean enabled,
+                               @Value("${spring.security.rate-limit.ip.limit:30}") int ipLimit,
+                               @Value("${spring.security.rate-limit.ip.period-seconds:60}") long ipPeriodSeconds,
+                               @Value("${spring.security.rate-limit.email.limit:5}") int emailLimit,
+                               @Value("${spring.security.rate-limit.email.period-seconds:300}") long emailPeriodSeconds,
+                               @Value("${spring.security.rate-limit.max-keys:100000}") long maxKeys,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.ipLimiter = new RateLimiter(ipLimit, Duration.ofSeconds(ipPeriodSeconds), maxKeys);
+        this.emailLimiter = new RateLimiter(emailLimit, Duration.ofSeconds(emailPeriodSeconds), maxKeys);
+        this.objectMapper = objectMapper;
+
+        for (String path : LIMITED_PATHS) {
+            for (String outcome : List.of(OUTCOME_ALLOWED, OUTCOME_REJECTED_IP, OUTCOME_REJECTED_EMAIL)) {
+                counters.put(path + outcome, Counter.builder("auth.rate_limit.requests")
+                        .tag("endpoint", path)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+        }
+        meterRegistry.gauge("auth.rate_limit.tracked_keys", Tags.of("key", "ip"), ipLimiter, RateLimiter::trackedKeys);
+        meterRegistry.gauge("auth.rate_limit.tracked_keys", Tags.of("key", "email"), emailLimiter, RateLimiter::trackedKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"POST".equals(request.getMethod()) || limitedPath(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = limitedPath(request);
+
+        long wait = ipLimiter.tryAcquire(path + "|" + request.getRemoteAddr());
+        if (wait > 0) {
+            reject(response, path, OUTCOME_REJECTED_IP, wait);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        String email = extractEmail(body);
+        if (email != null) {
+            wait = emailLimiter.tryAcquire(path + "|" + email);
+            if (wait > 0) {
+                reject(response, path, OUTCOME_REJECTED_EMAIL, wait);
+                return;
+            }
+        }
+
+        counters.get(path + OUTCOME_ALLOWED).increment();
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    /**
+     * Match the request against the limited endpoints, ignoring context path and a trailing slash
+     */
+    private String limitedPath(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        for (String limited : LIMITED_PATHS) {
+            if (limited.equals(path)) {
+                return limited;
+            }
+        }
+        return null;
+    }
+
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            if (!email.isTextual() || email.asText().isBlank()) {
+                return null;
+            }
+            return email.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            // Malformed JSON is rejected by the controller; the IP limit still applies
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, String path, String outcome, long waitNanos) throws IOException {
+        counters.get(path + outcome).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"success\":false,\"message\":\"Too many requests. Please try again later.\"}");
+    }
+
+    /**
+     * Replays a body that was already read so the controller can bind it
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.garage.backend.shared.security;
 
+import com.garage.backend.shared.service.TenantContext;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,6 +11,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -24,6 +27,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
                                   HttpServletResponse response, 
@@ -31,27 +37,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        Claims claims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            try {
-                username = jwtUtil.extractUsername(jwt);
-            } catch (Exception e) {
-                logger.error("JWT Authentication Error: " + e.getMessage(), e);
-                logger.debug("JWT Token: " + jwt);
+            String jwt = authorizationHeader.substring(7);
+            // Signature and expiry are verified in the same parse that extracts the subject
+            claims = jwtUtil.parseValidClaims(jwt);
+            if (claims == null) {
+                logger.debug("JWT Authentication Error: invalid or expired token");
             }
         }
 
+        String username = claims != null ? claims.getSubject() : null;
+
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            try {
+                UserDetails userDetails = principalCache.get(username, userDetailsService::loadUserByUsername);
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+
+                // Tenant claims let GarageContextService skip its lookups for this request
+                TenantContext tenantContext = TenantContext.current();
+                tenantContext.setUserId(jwtUtil.extractUuidClaim(claims, JwtUtil.CLAIM_USER_ID));
+                tenantContext.setGarageId(jwtUtil.extractUuidClaim(claims, JwtUtil.CLAIM_GARAGE_ID));
+            } catch (UsernameNotFoundException e) {
+                logger.debug("JWT Authentication Error: " + e.getMessage());
             }
         }
         filterChain.doFilter(request, response);
@@ -2,6 +2,7 @@ package com.garage.backend.shared.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -10,11 +11,15 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_GARAGE_ID = "gid";
+
     @Value("${spring.security.jwt.secret}")
     private String secret;
 
@@ -24,8 +29,23 @@ public class JwtUtil {
     @Value("${spring.security.jwt.refresh-expiration}")
     private Long refreshExpiration;
 
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    /**
+     * Derive the HMAC signing key and build the thread-safe parser once at startup
+     */
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
     }
 
     public String extractUsername(String token) {
@@ -42,15 +62,20 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Verify the signature and expiry of a token with a single parse
+     * @param token JWT
+     * @return Claims of the token, or null if it is invalid or expired
+     */
+    public Claims parseValidClaims(String token) {
+        try {
+            return extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -58,6 +83,42 @@ public class JwtUtil {
         return createToken(claims, userDetails.getUsername(), expiration);
     }
 
+    /**
+     * Generate an access token carrying the caller's tenant as claims
+     * @param userDetails authenticated user
+     * @param userId user ID, stored as the "uid" claim
+     * @param garageId garage ID, stored as the "gid" claim (omitted if null)
+     * @return String JWT
+     */
+    public String generateToken(UserDetails userDetails, UUID userId, UUID garageId) {
+        Map<String, Object> claims = new HashMap<>();
+        if (userId != null) {
+            claims.put(CLAIM_USER_ID, userId.toString());
+        }
+        if (garageId != null) {
+            claims.put(CLAIM_GARAGE_ID, garageId.toString());
+        }
+        return createToken(claims, userDetails.getUsername(), expiration);
+    }
+
+    /**
+     * Read a UUID claim written by {@link #generateToken(UserDetails, UUID, UUID)}
+     * @param claims token claims
+     * @param name claim name
+     * @return UUID or null if absent or malformed
+     */
+    public UUID extractUuidClaim(Claims claims, String name) {
+        String value = claims.get(name, String.class);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public String generateRefreshToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
         return createToken(claims, userDetails.getUsername(), refreshExpiration);
@@ -74,20 +135,12 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date()));
     }
 
     public Boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseValidClaims(token) != null;
     }
 
     public Long getExpiration() {
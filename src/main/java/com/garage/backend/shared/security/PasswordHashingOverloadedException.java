@@ -0,0 +1,13 @@
+package com.garage.backend.shared.security;
+
+/**
+ * Thrown when the password hashing pool is saturated and a request has to be shed
+ *
+ * Mapped to 503 Service Unavailable by GlobalExceptionHandler.
+ */
+public class PasswordHashingOverloadedException extends RuntimeException {
+
+    public PasswordHashingOverloadedException(String message) {
+        super(message);
+    }
+}
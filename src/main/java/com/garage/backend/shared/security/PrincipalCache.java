@@ -0,0 +1,60 @@
+package com.garage.backend.shared.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals keyed by JWT subject (email)
+ *
+ * Lets JwtAuthenticationFilter skip the users table on every request. Entries
+ * must be evicted whenever credentials or the active flag of a user change;
+ * the TTL bounds staleness for any change made outside the application.
+ * Hit/miss/eviction counts are published as "cache.*" meters tagged
+ * cache=jwt.principal.
+ */
+@Component
+public class PrincipalCache {
+
+    private static final String CACHE_NAME = "jwt.principal";
+
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(@Value("${spring.security.jwt.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${spring.security.jwt.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get the cached principal for a subject, loading it on a miss
+     * @param subject JWT subject (user email)
+     * @param loader loader used on a cache miss
+     * @return UserDetails
+     */
+    public UserDetails get(String subject, Function<String, UserDetails> loader) {
+        return cache.get(subject, loader);
+    }
+
+    /**
+     * Evict the cached principal for a subject
+     * @param subject JWT subject (user email)
+     */
+    public void evict(String subject) {
+        if (subject != null) {
+            cache.invalidate(subject);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.garage.backend.shared.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free per-key rate limiter using the generic cell rate algorithm (GCRA)
+ *
+ * Equivalent to a token bucket holding {@code limit} tokens that refills
+ * evenly over {@code period}, but each key's whole state is one AtomicLong
+ * (the theoretical arrival time of the next request) updated with a CAS
+ * loop, so a check is O(1) and never blocks. Keys are held in a bounded
+ * Caffeine map, which is internally striped, and are dropped once idle for
+ * a full period, when their bucket would be full again anyway.
+ */
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final Cache<String, AtomicLong> states;
+
+    /**
+     * @param limit requests allowed per period, also the maximum burst
+     * @param period refill period
+     * @param maxKeys maximum number of keys tracked at once
+     */
+    public RateLimiter(int limit, Duration period, long maxKeys) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Rate limit must be at least 1");
+        }
+        this.emissionIntervalNanos = period.toNanos() / limit;
+        this.burstToleranceNanos = emissionIntervalNanos * (limit - 1);
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(period)
+                .build();
+    }
+
+    /**
+     * Try to admit one request for a key
+     * @param key rate limit key
+     * @return 0 if admitted, otherwise nanoseconds until a request for this key would be admitted
+     */
+    public long tryAcquire(String key) {
+        AtomicLong state = states.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long now = System.nanoTime();
+        while (true) {
+            long current = state.get();
+            long arrival = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long wait = arrival - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (state.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Number of keys currently tracked
+     * @return long estimated key count
+     */
+    public long trackedKeys() {
+        return states.estimatedSize();
+    }
+}
@@ -0,0 +1,298 @@
+package com.garage.backend.shared.service;
+
+import com.garage.backend.shared.entity.EmailOutbox;
+import com.garage.backend.shared.repository.EmailOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Transactional email outbox with background SMTP delivery
+ *
+ * Callers enqueue inside their own transaction and return immediately; the
+ * row becomes visible to the dispatcher only once that transaction commits.
+ * The dispatcher runs right after such a commit and on a fixed poll for
+ * retries. It claims due rows with SKIP LOCKED, splits them across a bounded
+ * worker pool and sends each worker's share over a single SMTP connection.
+ * Failed messages are retried with exponential backoff until they succeed,
+ * run out of attempts or pass their expiry time. Finished rows are purged
+ * once they are older than the retention period.
+ */
+@Service
+public class EmailOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxService.class);
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${spring.mail.outbox.workers:4}")
+    private int workers;
+
+    @Value("${spring.mail.outbox.messages-per-connection:20}")
+    private int messagesPerConnection;
+
+    @Value("${spring.mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${spring.mail.outbox.initial-backoff-seconds:5}")
+    private long initialBackoffSeconds;
+
+    @Value("${spring.mail.outbox.max-backoff-seconds:300}")
+    private long maxBackoffSeconds;
+
+    @Value("${spring.mail.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    /**
+     * Claims older than this are assumed to belong to a sender that died mid-delivery
+     */
+    private static final long STALE_CLAIM_MINUTES = 5;
+
+    private ThreadPoolTaskExecutor executor;
+    private TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("mail-outbox-");
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers * 2);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Queue an email for delivery
+     * @param recipient recipient address
+     * @param subject subject line
+     * @param body plain text body
+     * @param expiresAt time after which the email is no longer worth sending, or null
+     * @return EmailOutbox queued row
+     */
+    @Transactional
+    public EmailOutbox enqueue(String recipient, String subject, String body, LocalDateTime expiresAt) {
+        EmailOutbox email = outboxRepository.save(new EmailOutbox(recipient, subject, body, expiresAt));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUp();
+            }
+        });
+        return email;
+    }
+
+    /**
+     * Deliver every email that is due; also runs on a fixed delay to pick up retries
+     */
+    @Scheduled(fixedDelayString = "${spring.mail.outbox.poll-interval-ms:5000}")
+    public void dispatchDue() {
+        if (!dispatching.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                outboxRepository.releaseStaleClaims(now.minusMinutes(STALE_CLAIM_MINUTES));
+                outboxRepository.expirePending(now);
+            });
+
+            do {
+                wakeUpRequested.set(false);
+                List<EmailOutbox> batch;
+                while (!(batch = claimDue(workers * messagesPerConnection)).isEmpty()) {
+                    deliverInParallel(batch);
+                }
+            } while (wakeUpRequested.get());
+        } catch (RuntimeException e) {
+            logger.error("Email outbox dispatch failed", e);
+        } finally {
+            dispatching.set(false);
+        }
+
+        // An email committed between the last claim and releasing the flag would otherwise wait for the next poll
+        if (wakeUpRequested.get()) {
+            wakeUp();
+        }
+    }
+
+    /**
+     * Delete sent, failed and expired emails older than the retention period
+     * @return int number of rows deleted
+     */
+    @Scheduled(fixedDelayString = "${spring.mail.outbox.purge-interval-ms:3600000}")
+    public int purgeFinished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deleteFinishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            logger.info("Purged {} finished emails from the outbox", deleted);
+        }
+        return deleted == null ? 0 : deleted;
+    }
+
+    /**
+     * Start a dispatch run in the background unless one is already in progress
+     */
+    private void wakeUp() {
+        wakeUpRequested.set(true);
+        if (dispatching.get()) {
+            return;
+        }
+        try {
+            executor.execute(this::dispatchDue);
+        } catch (TaskRejectedException e) {
+            // Pool is saturated; the scheduled poll will deliver the email
+        }
+    }
+
+    private List<EmailOutbox> claimDue(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> due = outboxRepository.lockDue(now, limit);
+            for (EmailOutbox email : due) {
+                email.setStatus(EmailOutbox.STATUS_SENDING);
+                email.setClaimedAt(now);
+            }
+            return due;
+        });
+    }
+
+    /**
+     * Split a claimed batch into one share per connection; the last share runs on the
+     * calling thread so a dispatcher running inside the pool cannot starve itself
+     */
+    private void deliverInParallel(List<EmailOutbox> batch) {
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        int start = 0;
+        while (start + messagesPerConnection < batch.size()) {
+            List<EmailOutbox> share = batch.subList(start, start + messagesPerConnection);
+            pending.add(CompletableFuture.runAsync(() -> deliver(share), executor));
+            start += messagesPerConnection;
+        }
+        deliver(batch.subList(start, batch.size()));
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * Send emails over a single SMTP connection and record the outcome of each
+     */
+    private void deliver(List<EmailOutbox> emails) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[emails.size()];
+        for (int i = 0; i < emails.size(); i++) {
+            messages[i] = toMessage(emails.get(i));
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        Exception batchFailure = null;
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                batchFailure = e;
+            }
+        } catch (MailException e) {
+            batchFailure = e;
+        }
+
+        List<UUID> sentIds = new ArrayList<>();
+        List<EmailOutbox> failed = new ArrayList<>();
+        List<Exception> errors = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            Exception error = batchFailure != null ? batchFailure : failures.get(messages[i]);
+            if (error == null) {
+                sentIds.add(emails.get(i).getId());
+            } else {
+                failed.add(emails.get(i));
+                errors.add(error);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                outboxRepository.markSent(sentIds, LocalDateTime.now());
+            }
+            for (int i = 0; i < failed.size(); i++) {
+                recordFailure(failed.get(i), errors.get(i));
+            }
+        });
+    }
+
+    private void recordFailure(EmailOutbox email, Exception error) {
+        int attempts = email.getAttempts() + 1;
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds(attempts));
+
+        email.setAttempts(attempts);
+        email.setLastError(error.getMessage());
+        email.setClaimedAt(null);
+        if (attempts >= maxAttempts) {
+            email.setStatus(EmailOutbox.STATUS_FAILED);
+            logger.warn("Giving up on email {} after {} attempts: {}", email.getId(), attempts, error.getMessage());
+        } else if (email.getExpiresAt() != null && !nextAttemptAt.isBefore(email.getExpiresAt())) {
+            email.setStatus(EmailOutbox.STATUS_EXPIRED);
+        } else {
+            email.setStatus(EmailOutbox.STATUS_PENDING);
+            email.setNextAttemptAt(nextAttemptAt);
+        }
+        outboxRepository.save(email);
+    }
+
+    private long backoffSeconds(int attempts) {
+        long delay = initialBackoffSeconds << Math.min(attempts - 1, 20);
+        return Math.min(delay, maxBackoffSeconds);
+    }
+
+    private SimpleMailMessage toMessage(EmailOutbox email) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(fromEmail);
+        message.setTo(email.getRecipient());
+        message.setSubject(email.getSubject());
+        message.setText(email.getBody());
+        return message;
+    }
+}
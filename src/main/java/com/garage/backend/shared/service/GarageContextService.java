@@ -11,6 +11,13 @@ import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
+/**
+ * Resolves the tenant of the authenticated user
+ *
+ * Results are memoized in the request-scoped TenantContext, which the JWT
+ * filter pre-populates from the token's "uid"/"gid" claims, so repeated calls
+ * within one request do not repeat the same lookups.
+ */
 @Service
 public class GarageContextService {
 
@@ -24,14 +31,15 @@ public class GarageContextService {
      * Get the garage ID for the currently authenticated user
      */
     public UUID getCurrentUserGarageId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("User not authenticated");
+        String userEmail = getAuthenticatedEmail();
+        TenantContext context = TenantContext.current();
+        if (context.getGarageId() != null) {
+            return context.getGarageId();
         }
 
-        String userEmail = authentication.getName();
         Garage garage = garageRepository.findByUserEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("No garage found for user: " + userEmail));
+        context.setGarage(garage);
 
         return garage.getId();
     }
@@ -40,14 +48,15 @@ public class GarageContextService {
      * Get the current user ID from authentication context
      */
     public UUID getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("User not authenticated");
+        String userEmail = getAuthenticatedEmail();
+        TenantContext context = TenantContext.current();
+        if (context.getUserId() != null) {
+            return context.getUserId();
         }
 
-        String userEmail = authentication.getName();
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("User not found: " + userEmail));
+        context.setUserId(user.getId());
         
         return user.getId();
     }
@@ -56,13 +65,33 @@ public class GarageContextService {
      * Get the garage for the currently authenticated user
      */
     public Garage getCurrentUserGarage() {
+        String userEmail = getAuthenticatedEmail();
+        TenantContext context = TenantContext.current();
+        if (context.getGarage() != null) {
+            return context.getGarage();
+        }
+
+        Garage garage;
+        if (context.getGarageId() != null) {
+            garage = garageRepository.findById(context.getGarageId())
+                    .orElseThrow(() -> new RuntimeException("No garage found for user: " + userEmail));
+        } else {
+            garage = garageRepository.findByUserEmail(userEmail)
+                    .orElseThrow(() -> new RuntimeException("No garage found for user: " + userEmail));
+        }
+        context.setGarage(garage);
+
+        return garage;
+    }
+
+    /**
+     * Get the email of the authenticated user, failing if there is none
+     */
+    private String getAuthenticatedEmail() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new RuntimeException("User not authenticated");
         }
-
-        String userEmail = authentication.getName();
-        return garageRepository.findByUserEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("No garage found for user: " + userEmail));
+        return authentication.getName();
     }
 }
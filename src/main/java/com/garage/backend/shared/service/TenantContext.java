@@ -0,0 +1,66 @@
+package com.garage.backend.shared.service;
+
+import com.garage.backend.settings.entity.Garage;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.UUID;
+
+/**
+ * Per-request holder for the tenant (user and garage) of the authenticated caller
+ *
+ * Populated from the JWT claims by JwtAuthenticationFilter and filled lazily by
+ * GarageContextService, so tenant resolution hits the database at most once per
+ * request. Outside of a web request a fresh, unshared instance is returned.
+ */
+public class TenantContext {
+
+    private static final String ATTRIBUTE_NAME = TenantContext.class.getName();
+
+    private UUID userId;
+    private UUID garageId;
+    private Garage garage;
+
+    /**
+     * Get the tenant context bound to the current request
+     * @return TenantContext
+     */
+    public static TenantContext current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new TenantContext();
+        }
+        TenantContext context = (TenantContext) attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (context == null) {
+            context = new TenantContext();
+            attributes.setAttribute(ATTRIBUTE_NAME, context, RequestAttributes.SCOPE_REQUEST);
+        }
+        return context;
+    }
+
+    // Getters and Setters
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getGarageId() {
+        return garageId;
+    }
+
+    public void setGarageId(UUID garageId) {
+        this.garageId = garageId;
+    }
+
+    public Garage getGarage() {
+        return garage;
+    }
+
+    public void setGarage(Garage garage) {
+        this.garage = garage;
+        this.garageId = garage != null ? garage.getId() : null;
+    }
+}
@@ -10,11 +10,27 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * Pre-aggregated totals for one branch and day, maintained by DailySnapshotService
+ *
+ * Transactions, job cards and customers carry no branch, so their totals are
+ * kept on the garage-wide row (GARAGE_WIDE_BRANCH_ID); invoices are counted on
+ * their own branch's row. The table and its unique constraint, the conflict
+ * target of DailySnapshotsRepository.addToDay, are created by db/migration,
+ * not ddl-auto.
+ */
 @Entity
-@Table(name = "Daily_Snapshots")
+@Table(name = "Daily_Snapshots",
+       uniqueConstraints = @UniqueConstraint(name = "uk_daily_snapshots_branch_date",
+                                             columnNames = {"branch_id", "snapshot_date"}))
 @EntityListeners(AuditingEntityListener.class)
 public class DailySnapshots {
 
+    /**
+     * branch_id of the rows holding totals that are not attributable to a branch
+     */
+    public static final UUID GARAGE_WIDE_BRANCH_ID = new UUID(0L, 0L);
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "id", columnDefinition = "UUID")
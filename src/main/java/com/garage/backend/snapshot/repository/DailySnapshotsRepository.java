@@ -2,12 +2,14 @@ package com.garage.backend.snapshot.repository;
 
 import com.garage.backend.snapshot.entity.DailySnapshots;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -77,4 +79,81 @@ public interface DailySnapshotsRepository extends JpaRepository<DailySnapshots,
     BigDecimal getTotalProfitForDateRange(@Param("branchId") UUID branchId,
                                         @Param("startDate") LocalDate startDate,
                                         @Param("endDate") LocalDate endDate);
+
+    // Atomically add deltas to a branch's totals for a day, creating the row if needed
+    @Modifying
+    @Query(value = "INSERT INTO daily_snapshots (id, snapshot_date, branch_id, total_sales, total_expenses, total_profit, " +
+                   "total_invoices, total_job_cards, total_customers, created_at) " +
+                   "VALUES (gen_random_uuid(), :snapshotDate, :branchId, :sales, :expenses, :sales - :expenses, " +
+                   ":invoices, :jobCards, :customers, NOW()) " +
+                   "ON CONFLICT (branch_id, snapshot_date) DO UPDATE SET " +
+                   "total_sales = daily_snapshots.total_sales + EXCLUDED.total_sales, " +
+                   "total_expenses = daily_snapshots.total_expenses + EXCLUDED.total_expenses, " +
+                   "total_profit = daily_snapshots.total_profit + EXCLUDED.total_profit, " +
+                   "total_invoices = daily_snapshots.total_invoices + EXCLUDED.total_invoices, " +
+                   "total_job_cards = daily_snapshots.total_job_cards + EXCLUDED.total_job_cards, " +
+                   "total_customers = daily_snapshots.total_customers + EXCLUDED.total_customers",
+           nativeQuery = true)
+    void addToDay(@Param("branchId") UUID branchId,
+                  @Param("snapshotDate") LocalDate snapshotDate,
+                  @Param("sales") BigDecimal sales,
+                  @Param("expenses") BigDecimal expenses,
+                  @Param("invoices") int invoices,
+                  @Param("jobCards") int jobCards,
+                  @Param("customers") int customers);
+
+    // Zero every snapshot in a date range ahead of rebuildBetween, so days that no longer have any activity are reset too
+    @Modifying
+    @Query("UPDATE DailySnapshots ds SET ds.totalSales = 0, ds.totalExpenses = 0, ds.totalProfit = 0, " +
+           "ds.totalInvoices = 0, ds.totalJobCards = 0, ds.totalCustomers = 0 " +
+           "WHERE ds.snapshotDate BETWEEN :startDate AND :endDate")
+    int resetTotalsBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // Recompute the snapshots of a date range from the source tables. :startTime/:endTime bound the same days
+    // as timestamps (end exclusive) for the tables that only have created_at. Completed income counts as sales,
+    // completed expenses as expenses; invoices go to their branch, everything else to :garageWideBranchId.
+    @Modifying
+    @Query(value = "INSERT INTO daily_snapshots (id, snapshot_date, branch_id, total_sales, total_expenses, total_profit, " +
+                   "total_invoices, total_job_cards, total_customers, created_at) " +
+                   "SELECT gen_random_uuid(), a.day, a.branch_id, SUM(a.sales), SUM(a.expenses), SUM(a.sales) - SUM(a.expenses), " +
+                   "SUM(a.invoices), SUM(a.job_cards), SUM(a.customers), NOW() " +
+                   "FROM (" +
+                   "SELECT t.transaction_date_only AS day, CAST(:garageWideBranchId AS uuid) AS branch_id, " +
+                   "CASE WHEN t.transaction_type = 'INCOME' THEN t.amount ELSE 0 END AS sales, " +
+                   "CASE WHEN t.transaction_type = 'EXPENSE' THEN t.amount ELSE 0 END AS expenses, " +
+                   "0 AS invoices, 0 AS job_cards, 0 AS customers " +
+                   "FROM transactions t " +
+                   "WHERE t.status = 'COMPLETED' AND t.transaction_date_only BETWEEN :startDate AND :endDate " +
+                   "UNION ALL " +
+                   "SELECT i.invoice_date, i.branch_id, 0, 0, 1, 0, 0 FROM invoice i " +
+                   "WHERE i.invoice_date BETWEEN :startDate AND :endDate " +
+                   "UNION ALL " +
+                   "SELECT CAST(j.created_at AS date), CAST(:garageWideBranchId AS uuid), 0, 0, 0, 1, 0 FROM job_cards j " +
+                   "WHERE j.created_at >= :startTime AND j.created_at < :endTime " +
+                   "UNION ALL " +
+                   "SELECT CAST(c.created_at AS date), CAST(:garageWideBranchId AS uuid), 0, 0, 0, 0, 1 FROM customers c " +
+                   "WHERE c.created_at >= :startTime AND c.created_at < :endTime" +
+                   ") a " +
+                   "GROUP BY a.day, a.branch_id " +
+                   "ON CONFLICT (branch_id, snapshot_date) DO UPDATE SET " +
+                   "total_sales = EXCLUDED.total_sales, " +
+                   "total_expenses = EXCLUDED.total_expenses, " +
+                   "total_profit = EXCLUDED.total_profit, " +
+                   "total_invoices = EXCLUDED.total_invoices, " +
+                   "total_job_cards = EXCLUDED.total_job_cards, " +
+                   "total_customers = EXCLUDED.total_customers",
+           nativeQuery = true)
+    int rebuildBetween(@Param("startDate") LocalDate startDate,
+                       @Param("endDate") LocalDate endDate,
+                       @Param("startTime") LocalDateTime startTime,
+                       @Param("endTime") LocalDateTime endTime,
+                       @Param("garageWideBranchId") UUID garageWideBranchId);
+
+    // Earliest day with any snapshot-relevant activity (null if there is none)
+    @Query(value = "SELECT LEAST((SELECT MIN(transaction_date_only) FROM transactions), " +
+                   "(SELECT MIN(invoice_date) FROM invoice), " +
+                   "(SELECT CAST(MIN(created_at) AS date) FROM job_cards), " +
+                   "(SELECT CAST(MIN(created_at) AS date) FROM customers))",
+           nativeQuery = true)
+    LocalDate findEarliestActivityDate();
 }
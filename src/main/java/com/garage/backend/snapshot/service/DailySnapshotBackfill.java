@@ -0,0 +1,25 @@
+package com.garage.backend.snapshot.service;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the first-start snapshot backfill during context startup
+ *
+ * afterSingletonsInstantiated is called once every singleton, including the
+ * schema migrations, has been created, and before the web server starts
+ * listening. A long backfill therefore delays startup rather than racing
+ * requests that write snapshots.
+ */
+@Component
+public class DailySnapshotBackfill implements SmartInitializingSingleton {
+
+    @Autowired
+    private DailySnapshotService dailySnapshotService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        dailySnapshotService.backfillIfEmpty();
+    }
+}
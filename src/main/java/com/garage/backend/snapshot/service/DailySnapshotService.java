@@ -0,0 +1,241 @@
+package com.garage.backend.snapshot.service;
+
+import com.garage.backend.customer.entity.Customers;
+import com.garage.backend.financial.entity.Transactions;
+import com.garage.backend.invoice.entity.Invoice;
+import com.garage.backend.jobcard.entity.JobCards;
+import com.garage.backend.shared.enums.Enums;
+import com.garage.backend.snapshot.entity.DailySnapshots;
+import com.garage.backend.snapshot.repository.DailySnapshotsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Maintains the per-branch, per-day totals in Daily_Snapshots
+ *
+ * Every created invoice, job card, customer and transaction must be reported
+ * here within the same database transaction; each report is a single upsert
+ * that adds to the day's row, so concurrent writers never lose an update.
+ * Completed income counts as sales and completed expenses as expenses;
+ * updates are reported through recordChanged with the previous state, so a
+ * transaction moving between statuses or days moves its amount with it.
+ *
+ * Rebuilding history splits the date range into chunks that are recomputed
+ * from the source tables in parallel, one transaction per chunk.
+ */
+@Service
+@Transactional
+public class DailySnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DailySnapshotService.class);
+
+    @Autowired
+    private DailySnapshotsRepository snapshotsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${spring.snapshots.backfill.chunk-days:31}")
+    private int chunkDays;
+
+    @Value("${spring.snapshots.backfill.parallelism:0}")
+    private int parallelism;
+
+    private static final int SALES = 0;
+    private static final int EXPENSES = 1;
+
+    /**
+     * Add a newly created transaction to its day's totals
+     * @param transaction saved transaction
+     */
+    public void recordCreated(Transactions transaction) {
+        applyAmount(transaction, transaction.getAmount());
+    }
+
+    /**
+     * Add a batch of newly created transactions, issuing one upsert per affected day
+     * @param transactions saved transactions
+     */
+    public void recordCreated(Collection<Transactions> transactions) {
+        Map<LocalDate, BigDecimal[]> totalsByDay = new HashMap<>();
+        for (Transactions transaction : transactions) {
+            int bucket = bucketOf(transaction);
+            if (bucket < 0) {
+                continue;
+            }
+            BigDecimal[] totals = totalsByDay.computeIfAbsent(transaction.getTransactionDateOnly(),
+                    day -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+            totals[bucket] = totals[bucket].add(transaction.getAmount());
+        }
+        totalsByDay.forEach((day, totals) -> snapshotsRepository.addToDay(DailySnapshots.GARAGE_WIDE_BRANCH_ID,
+                day, totals[SALES], totals[EXPENSES], 0, 0, 0));
+    }
+
+    /**
+     * Apply an update of an existing transaction to the totals
+     *
+     * A change of amount within the same total and day is a single upsert of
+     * the difference. A change of status, type or day takes the previous amount
+     * off the total and day it counted towards and adds the new one where it
+     * now counts.
+     * @param previous the transaction's amount, type, status and day before the update
+     * @param transaction updated transaction
+     */
+    public void recordChanged(Transactions previous, Transactions transaction) {
+        if (bucketOf(previous) == bucketOf(transaction)
+                && previous.getTransactionDateOnly().equals(transaction.getTransactionDateOnly())) {
+            BigDecimal delta = transaction.getAmount().subtract(previous.getAmount());
+            if (delta.signum() != 0) {
+                applyAmount(transaction, delta);
+            }
+            return;
+        }
+        applyAmount(previous, previous.getAmount().negate());
+        applyAmount(transaction, transaction.getAmount());
+    }
+
+    /**
+     * Count a newly created invoice on its branch's row for the invoice date
+     * @param invoice saved invoice
+     */
+    public void recordCreated(Invoice invoice) {
+        snapshotsRepository.addToDay(invoice.getBranchId(), invoice.getInvoiceDate(),
+                BigDecimal.ZERO, BigDecimal.ZERO, 1, 0, 0);
+    }
+
+    /**
+     * Count a newly created job card
+     * @param jobCard saved job card
+     */
+    public void recordCreated(JobCards jobCard) {
+        snapshotsRepository.addToDay(DailySnapshots.GARAGE_WIDE_BRANCH_ID, dayOf(jobCard.getCreatedAt()),
+                BigDecimal.ZERO, BigDecimal.ZERO, 0, 1, 0);
+    }
+
+    /**
+     * Count a newly created customer
+     * @param customer saved customer
+     */
+    public void recordCreated(Customers customer) {
+        snapshotsRepository.addToDay(DailySnapshots.GARAGE_WIDE_BRANCH_ID, dayOf(customer.getCreatedAt()),
+                BigDecimal.ZERO, BigDecimal.ZERO, 0, 0, 1);
+    }
+
+    /**
+     * Recompute the snapshots of a date range from the source tables
+     *
+     * The range is split into chunks of chunk-days days that are rebuilt
+     * concurrently, each in its own transaction; returns once every chunk
+     * has committed.
+     * @param fromDate first day to rebuild
+     * @param toDate last day to rebuild (inclusive)
+     * @return int number of snapshot rows written
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild(LocalDate fromDate, LocalDate toDate) {
+        if (toDate.isBefore(fromDate)) {
+            throw new RuntimeException("Rebuild range ends before it starts: " + fromDate + " to " + toDate);
+        }
+
+        int days = Math.max(1, chunkDays);
+        List<LocalDate[]> chunks = new ArrayList<>();
+        for (LocalDate start = fromDate; !start.isAfter(toDate); start = start.plusDays(days)) {
+            LocalDate end = start.plusDays(days - 1L);
+            chunks.add(new LocalDate[] {start, end.isAfter(toDate) ? toDate : end});
+        }
+
+        int threads = Math.min(chunks.size(),
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("snapshot-rebuild-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.initialize();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long started = System.currentTimeMillis();
+        try {
+            List<CompletableFuture<Integer>> results = new ArrayList<>(chunks.size());
+            for (LocalDate[] chunk : chunks) {
+                results.add(CompletableFuture.supplyAsync(
+                        () -> transactionTemplate.execute(status -> rebuildChunk(chunk[0], chunk[1])), executor));
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+            int rows = results.stream().mapToInt(CompletableFuture::join).sum();
+            logger.info("Rebuilt {} daily snapshots from {} to {} in {} chunks on {} threads ({} ms)",
+                    rows, fromDate, toDate, chunks.size(), threads, System.currentTimeMillis() - started);
+            return rows;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Backfill the snapshots on first start after they started being maintained
+     *
+     * Runs from DailySnapshotBackfill before the web server accepts requests;
+     * a snapshot written by a request first would make the table look
+     * already backfilled.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillIfEmpty() {
+        if (snapshotsRepository.count() > 0) {
+            return;
+        }
+        LocalDate earliest = snapshotsRepository.findEarliestActivityDate();
+        if (earliest != null) {
+            LocalDate today = LocalDate.now();
+            rebuild(earliest, earliest.isAfter(today) ? earliest : today);
+        }
+    }
+
+    private int rebuildChunk(LocalDate fromDate, LocalDate toDate) {
+        snapshotsRepository.resetTotalsBetween(fromDate, toDate);
+        return snapshotsRepository.rebuildBetween(fromDate, toDate, fromDate.atStartOfDay(),
+                toDate.plusDays(1).atStartOfDay(), DailySnapshots.GARAGE_WIDE_BRANCH_ID);
+    }
+
+    private void applyAmount(Transactions transaction, BigDecimal amount) {
+        int bucket = bucketOf(transaction);
+        if (bucket < 0) {
+            return;
+        }
+        snapshotsRepository.addToDay(DailySnapshots.GARAGE_WIDE_BRANCH_ID, transaction.getTransactionDateOnly(),
+                bucket == SALES ? amount : BigDecimal.ZERO, bucket == EXPENSES ? amount : BigDecimal.ZERO, 0, 0, 0);
+    }
+
+    /**
+     * Which total a transaction counts towards
+     * @param transaction transaction
+     * @return total index, or -1 if it does not count towards sales or expenses
+     */
+    private int bucketOf(Transactions transaction) {
+        if (!"COMPLETED".equals(transaction.getStatus())) {
+            return -1;
+        }
+        return transaction.getTransactionType() == Enums.TransactionType.INCOME ? SALES : EXPENSES;
+    }
+
+    private static LocalDate dayOf(LocalDateTime createdAt) {
+        return createdAt != null ? createdAt.toLocalDate() : LocalDate.now();
+    }
+}
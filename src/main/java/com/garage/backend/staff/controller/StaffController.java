@@ -2,6 +2,7 @@ package com.garage.backend.staff.controller;
 
 import com.garage.backend.staff.dto.CreateStaffRequest;
 import com.garage.backend.staff.dto.StaffResponse;
+import com.garage.backend.shared.pagination.CursorPage;
 import com.garage.backend.staff.service.StaffService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,6 +55,24 @@ public class StaffController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get staff using keyset (cursor) pagination and optional role filtering
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<StaffResponse>> getStaffAfterCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String role) {
+        try {
+            CursorPage<StaffResponse> response = staffService.getStaffAfterCursor(after, size, role);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * Get all active staff
      */
@@ -1,8 +1,12 @@
 package com.garage.backend.staff.repository;
 
 import com.garage.backend.staff.entity.Staff;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -76,6 +80,28 @@ public interface StaffRepository extends JpaRepository<Staff, UUID> {
      */
     Page<Staff> findByGarageIdAndRoleIn(UUID garageId, List<com.garage.backend.shared.enums.Enums.StaffRole> roles, Pageable pageable);
 
+    /**
+     * Scroll staff by garage ID using a keyset position
+     * @param garageId garage ID
+     * @param position scroll position to resume after
+     * @param sort keyset sort (must end with a unique property)
+     * @param limit maximum number of rows
+     * @return Window<Staff>
+     */
+    Window<Staff> findByGarageId(UUID garageId, ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Scroll staff by garage ID and multiple roles using a keyset position
+     * @param garageId garage ID
+     * @param roles list of staff roles
+     * @param position scroll position to resume after
+     * @param sort keyset sort (must end with a unique property)
+     * @param limit maximum number of rows
+     * @return Window<Staff>
+     */
+    Window<Staff> findByGarageIdAndRoleIn(UUID garageId, List<com.garage.backend.shared.enums.Enums.StaffRole> roles,
+                                          ScrollPosition position, Sort sort, Limit limit);
+
     /**
      * Find active staff by role
      * @param role staff role
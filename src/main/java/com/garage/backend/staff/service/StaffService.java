@@ -5,10 +5,16 @@ import com.garage.backend.staff.dto.CreateStaffRequest;
 import com.garage.backend.staff.dto.StaffResponse;
 import com.garage.backend.staff.entity.Staff;
 import com.garage.backend.staff.repository.StaffRepository;
+import com.garage.backend.shared.pagination.CursorPage;
+import com.garage.backend.shared.pagination.KeysetCursor;
 import com.garage.backend.shared.service.GarageContextService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -72,25 +78,10 @@ public class StaffService {
         Page<Staff> staffList;
         
         if (role != null && !role.trim().isEmpty()) {
-            // Handle multiple roles separated by commas
-            String[] roles = role.split(",");
-            if (roles.length == 1) {
-                try {
-                    Enums.StaffRole staffRole = Enums.StaffRole.valueOf(roles[0].trim().toUpperCase());
-                    staffList = staffRepository.findByGarageIdAndRole(garageId, staffRole, pageable);
-                } catch (IllegalArgumentException e) {
-                    throw new RuntimeException("Invalid staff role: " + roles[0]);
-                }
+            List<Enums.StaffRole> staffRoles = parseRoles(role);
+            if (staffRoles.size() == 1) {
+                staffList = staffRepository.findByGarageIdAndRole(garageId, staffRoles.get(0), pageable);
             } else {
-                // Multiple roles - we'll need to implement this in repository
-                List<Enums.StaffRole> staffRoles = new ArrayList<>();
-                for (String roleStr : roles) {
-                    try {
-                        staffRoles.add(Enums.StaffRole.valueOf(roleStr.trim().toUpperCase()));
-                    } catch (IllegalArgumentException e) {
-                        throw new RuntimeException("Invalid staff role: " + roleStr);
-                    }
-                }
                 staffList = staffRepository.findByGarageIdAndRoleIn(garageId, staffRoles, pageable);
             }
         } else {
@@ -99,6 +90,24 @@ public class StaffService {
         return staffList.map(this::convertToResponse);
     }
 
+    /**
+     * Get staff using keyset (cursor) pagination and optional role filtering
+     */
+    public CursorPage<StaffResponse> getStaffAfterCursor(String after, int size, String role) {
+        UUID garageId = garageContextService.getCurrentUserGarageId();
+        ScrollPosition position = KeysetCursor.toScrollPosition(after, "createdAt");
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+        Limit limit = Limit.of(CursorPage.effectiveSize(size));
+        Window<Staff> window;
+
+        if (role != null && !role.trim().isEmpty()) {
+            window = staffRepository.findByGarageIdAndRoleIn(garageId, parseRoles(role), position, sort, limit);
+        } else {
+            window = staffRepository.findByGarageId(garageId, position, sort, limit);
+        }
+        return CursorPage.of(window, "createdAt", this::convertToResponse);
+    }
+
     /**
      * Get all active staff
      */
@@ -215,6 +224,21 @@ public class StaffService {
         return convertToResponse(savedStaff);
     }
 
+    /**
+     * Parse a comma separated list of staff roles
+     */
+    private List<Enums.StaffRole> parseRoles(String role) {
+        List<Enums.StaffRole> staffRoles = new ArrayList<>();
+        for (String roleStr : role.split(",")) {
+            try {
+                staffRoles.add(Enums.StaffRole.valueOf(roleStr.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid staff role: " + roleStr);
+            }
+        }
+        return staffRoles;
+    }
+
     /**
      * Convert Staff entity to StaffResponse
      */
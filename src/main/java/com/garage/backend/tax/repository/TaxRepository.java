@@ -1,8 +1,11 @@
 package com.garage.backend.tax.repository;
 
 import com.garage.backend.tax.entity.Tax;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,12 +18,14 @@ import java.util.UUID;
 public interface TaxRepository extends JpaRepository<Tax, UUID> {
 
     // Find by tax code
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Tax> findByTaxCode(String taxCode);
 
     // Find by tax name containing text
     List<Tax> findByTaxNameContainingIgnoreCase(String taxName);
 
     // Find active taxes
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Tax> findByIsActiveTrue();
 
     // Find by tax rate
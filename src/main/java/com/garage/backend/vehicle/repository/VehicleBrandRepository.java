@@ -1,8 +1,11 @@
 package com.garage.backend.vehicle.repository;
 
 import com.garage.backend.vehicle.entity.VehicleBrand;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,9 +17,11 @@ import java.util.UUID;
 public interface VehicleBrandRepository extends JpaRepository<VehicleBrand, UUID> {
 
     // Find by brand name
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<VehicleBrand> findByBrandName(String brandName);
 
     // Find active brands
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<VehicleBrand> findByIsActiveTrue();
 
     // Find by manufacturer
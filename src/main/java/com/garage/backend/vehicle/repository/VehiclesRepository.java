@@ -1,5 +1,6 @@
 package com.garage.backend.vehicle.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,6 +37,14 @@ public interface VehiclesRepository extends JpaRepository<Vehicles, UUID> {
     @Query("SELECT v FROM Vehicles v WHERE v.customer.id = :customerId")
     List<Vehicles> findByCustomerId(@Param("customerId") UUID customerId);
 
+    /**
+     * Find vehicles for a batch of customers in a single query
+     * @param customerIds customer IDs
+     * @return List<Vehicles>
+     */
+    @Query("SELECT v FROM Vehicles v WHERE v.customer.id IN :customerIds")
+    List<Vehicles> findByCustomerIdIn(@Param("customerIds") Collection<UUID> customerIds);
+
     /**
      * Find vehicles by make
      * @param make vehicle make
@@ -65,4 +74,12 @@ public interface VehiclesRepository extends JpaRepository<Vehicles, UUID> {
      * @return Optional<Vehicles>
      */
     Optional<Vehicles> findByVin(String vin);
-} 
\ No newline at end of file
+
+    /**
+     * Find which of the given vehicle IDs exist
+     * @param ids vehicle IDs
+     * @return List<UUID> IDs that exist
+     */
+    @Query("SELECT v.id FROM Vehicles v WHERE v.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+}
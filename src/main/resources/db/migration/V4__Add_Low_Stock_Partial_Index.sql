@@ -0,0 +1,18 @@
+-- Low stock detection. product_inventory stays Hibernate-managed and gains the
+-- below_threshold column (default false) on startup; this migration backfills
+-- it for existing stock and indexes only the flagged rows, so low stock
+-- listings read a handful of index entries instead of the whole catalog.
+-- From here on StockLedgerService keeps the flag current on every movement.
+
+UPDATE product_inventory pi
+SET below_threshold = (pi.quantity - pi.reserved_quantity < i.min_stock_level)
+FROM inventory i
+WHERE i.id = pi.inventory_id
+  AND i.is_active
+  AND below_threshold <> (pi.quantity - pi.reserved_quantity < i.min_stock_level);
+
+CREATE INDEX IF NOT EXISTS idx_product_inventory_below_threshold
+    ON product_inventory (inventory_id)
+    WHERE below_threshold;
+
+COMMENT ON INDEX idx_product_inventory_below_threshold IS 'Items whose available stock is below their minimum level';
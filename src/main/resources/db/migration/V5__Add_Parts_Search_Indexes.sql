@@ -0,0 +1,18 @@
+-- Parts catalog search (InventoryRepository.searchParts / searchPartsInBranch).
+-- One GiST trigram index over lower(item_code || ' ' || item_name) serves the
+-- fuzzy word similarity filter (<%) and, unlike GIN, the KNN ordering (<->>),
+-- so a search reads only as many index entries as it returns. branch_id leads
+-- the index (via btree_gist) so branch-scoped searches are bounded too; the
+-- same index still serves searches across all branches. A 64-byte signature
+-- (default 12) keeps inner pages selective; with the default, broad one- and
+-- two-word terms descend into most of the tree.
+-- Creating the extensions needs a role allowed to do so (superuser or database
+-- owner on PostgreSQL 13+).
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE INDEX IF NOT EXISTS idx_inventory_parts_search
+    ON inventory USING gist (branch_id, lower(item_code || ' ' || item_name) gist_trgm_ops(siglen = 64));
+
+COMMENT ON INDEX idx_inventory_parts_search IS 'Parts search: trigram match and similarity ordering on item code and name, per branch';
@@ -0,0 +1,40 @@
+-- Move daily_snapshots under migrations. DailySnapshotsRepository.addToDay
+-- upserts with ON CONFLICT (branch_id, snapshot_date), which fails unless
+-- that exact unique constraint exists, so it is created here rather than left
+-- to ddl-auto (see MigrationOwnedTablesFilterProvider). IF NOT EXISTS keeps
+-- the CREATE TABLE a no-op where Hibernate already created the table.
+
+CREATE TABLE IF NOT EXISTS daily_snapshots (
+    id UUID PRIMARY KEY,
+    snapshot_date DATE NOT NULL,
+    branch_id UUID NOT NULL,
+    total_sales NUMERIC(15, 2) NOT NULL,
+    total_expenses NUMERIC(15, 2) NOT NULL,
+    total_profit NUMERIC(15, 2) NOT NULL,
+    total_invoices INTEGER NOT NULL,
+    total_job_cards INTEGER NOT NULL,
+    total_customers INTEGER NOT NULL,
+    notes TEXT,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+-- Tables created before snapshots were upserted may hold several rows for a
+-- branch and day; keep the newest one so the constraint can be added. The
+-- totals are recomputed by the startup backfill or a rebuild.
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'daily_snapshots'::regclass
+                     AND conname = 'uk_daily_snapshots_branch_date') THEN
+        DELETE FROM daily_snapshots older
+        USING daily_snapshots newer
+        WHERE newer.branch_id = older.branch_id
+          AND newer.snapshot_date = older.snapshot_date
+          AND (newer.created_at, newer.id) > (older.created_at, older.id);
+
+        ALTER TABLE daily_snapshots
+            ADD CONSTRAINT uk_daily_snapshots_branch_date UNIQUE (branch_id, snapshot_date);
+    END IF;
+END $$;
+
+COMMENT ON CONSTRAINT uk_daily_snapshots_branch_date ON daily_snapshots IS 'Conflict target of the per-day snapshot upsert';
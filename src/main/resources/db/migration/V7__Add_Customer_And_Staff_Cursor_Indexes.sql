@@ -0,0 +1,15 @@
+-- Keyset (cursor) pagination for the customer and staff listings
+-- (CustomerService.getCustomersAfterCursor, StaffService.getStaffAfterCursor).
+-- Both order by (created_at, id) descending and resume after the last row of
+-- the previous page, so with these indexes every page is an index seek plus
+-- size entries, however deep the client has scrolled. Staff are always
+-- listed within one garage, so garage_id leads that index.
+
+CREATE INDEX IF NOT EXISTS idx_customers_created_at_id
+    ON customers (created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_staff_garage_created_at_id
+    ON staff (garage_id, created_at DESC, id DESC);
+
+COMMENT ON INDEX idx_customers_created_at_id IS 'Customers ordered by creation for cursor pagination';
+COMMENT ON INDEX idx_staff_garage_created_at_id IS 'Staff of one garage ordered by creation for cursor pagination';
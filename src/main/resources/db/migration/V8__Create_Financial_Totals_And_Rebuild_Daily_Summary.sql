@@ -0,0 +1,35 @@
+-- Running totals across all days in a single row (id = 1), so the dashboard
+-- reads pending income without summing every daily_financial_summary row.
+-- DailyFinancialSummaryService adds to it alongside the per-day upserts.
+
+CREATE TABLE IF NOT EXISTS financial_totals (
+    id SMALLINT PRIMARY KEY,
+    pending_income NUMERIC(15, 2) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT ck_financial_totals_single_row CHECK (id = 1)
+);
+
+-- Rebuild the per-day totals from the transactions table. This replaces the
+-- old backfill that ran once the application was ready and only when the
+-- summary table was empty: a request served before it made the table
+-- non-empty and the rebuild was skipped for good. As a migration it runs
+-- exactly once, before the application serves requests.
+DELETE FROM daily_financial_summary;
+
+INSERT INTO daily_financial_summary (id, summary_date, income_received, expenses_paid, pending_income, updated_at)
+SELECT gen_random_uuid(), t.transaction_date_only,
+       COALESCE(SUM(CASE WHEN t.transaction_type = 'INCOME' AND t.status = 'COMPLETED' THEN t.amount END), 0),
+       COALESCE(SUM(CASE WHEN t.transaction_type = 'EXPENSE' AND t.status = 'COMPLETED' THEN t.amount END), 0),
+       COALESCE(SUM(CASE WHEN t.transaction_type = 'INCOME' AND t.status = 'PENDING' THEN t.amount END), 0),
+       NOW()
+FROM transactions t
+GROUP BY t.transaction_date_only;
+
+INSERT INTO financial_totals (id, pending_income, updated_at)
+SELECT 1, COALESCE(SUM(s.pending_income), 0), NOW()
+FROM daily_financial_summary s
+ON CONFLICT (id) DO UPDATE SET
+    pending_income = EXCLUDED.pending_income,
+    updated_at = NOW();
+
+COMMENT ON TABLE financial_totals IS 'Single-row running totals across all days';
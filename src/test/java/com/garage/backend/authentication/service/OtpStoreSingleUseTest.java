@@ -0,0 +1,145 @@
+package com.garage.backend.authentication.service;
+
+import com.garage.backend.authentication.entity.OTPCode;
+import com.garage.backend.authentication.entity.User;
+import com.garage.backend.authentication.repository.OTPRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Single use of an OTP under concurrent verification
+ *
+ * THREADS callers verify the same valid code at the same moment, and
+ * exactly one of them may succeed. The race is repeated for ROUNDS fresh
+ * codes against each store: InMemoryOtpStore directly, and JpaOtpStore on
+ * in-memory H2 with every caller in its own transaction and connection.
+ */
+@SpringJUnitConfig(OtpStoreSingleUseTest.Config.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OtpStoreSingleUseTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 25;
+    private static final String TYPE = "LOGIN_OTP";
+
+    @Autowired
+    private OtpStore jpaOtpStore;
+
+    private final InMemoryOtpStore inMemoryOtpStore = new InMemoryOtpStore(1000);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"memory", "jpa"})
+    void concurrentVerificationSucceedsOnce(String storeName) throws Exception {
+        OtpStore store = "jpa".equals(storeName) ? jpaOtpStore : inMemoryOtpStore;
+        ExecutorService callers = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                String email = "owner" + round + "@" + storeName + ".example";
+                String code = String.valueOf(1000 + round);
+                store.save(email, TYPE, code, LocalDateTime.now().plusMinutes(2));
+
+                CountDownLatch ready = new CountDownLatch(THREADS);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    Callable<Boolean> verify = () -> {
+                        ready.countDown();
+                        start.await();
+                        return store.consume(email, TYPE, code);
+                    };
+                    results.add(callers.submit(verify));
+                }
+                assertThat(ready.await(10, TimeUnit.SECONDS)).isTrue();
+                start.countDown();
+
+                int successes = 0;
+                for (Future<Boolean> result : results) {
+                    if (result.get(30, TimeUnit.SECONDS)) {
+                        successes++;
+                    }
+                }
+                assertThat(successes).as("successful verifications in round %d", round).isEqualTo(1);
+                assertThat(store.consume(email, TYPE, code)).isFalse();
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaRepositories(
+            basePackageClasses = OTPRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = OTPRepository.class))
+    static class Config {
+
+        @Bean(destroyMethod = "close")
+        HikariDataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            // Callers queue on the row lock while the winner commits
+            dataSource.setJdbcUrl("jdbc:h2:mem:otp-store-" + UUID.randomUUID()
+                    + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;NON_KEYWORDS=YEAR;LOCK_TIMEOUT=10000");
+            dataSource.setMaximumPoolSize(THREADS);
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                    ConfigurableListableBeanFactory beanFactory) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setManagedTypes(PersistenceManagedTypes.of(OTPCode.class.getName(), User.class.getName()));
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            Map<String, Object> jpaProperties = new HashMap<>();
+            jpaProperties.put(AvailableSettings.HBM2DDL_AUTO, "create");
+            jpaProperties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
+            factory.setJpaPropertyMap(jpaProperties);
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        OtpStore jpaOtpStore() {
+            return new JpaOtpStore();
+        }
+    }
+}
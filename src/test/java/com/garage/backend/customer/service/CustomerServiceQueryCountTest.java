@@ -0,0 +1,190 @@
+package com.garage.backend.customer.service;
+
+import com.garage.backend.address.repository.AddressesRepository;
+import com.garage.backend.authentication.repository.UserRepository;
+import com.garage.backend.customer.dto.CustomerResponse;
+import com.garage.backend.customer.entity.Customers;
+import com.garage.backend.customer.repository.CustomersRepository;
+import com.garage.backend.settings.repository.GarageRepository;
+import com.garage.backend.shared.metrics.StatementCountingInspector;
+import com.garage.backend.snapshot.entity.DailySnapshots;
+import com.garage.backend.snapshot.repository.DailySnapshotsRepository;
+import com.garage.backend.snapshot.service.DailySnapshotService;
+import com.garage.backend.vehicle.entity.Vehicles;
+import com.garage.backend.vehicle.repository.VehiclesRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statements issued by one page of the customer listing
+ *
+ * A page is one select, one COUNT and one batched vehicle lookup, whatever
+ * the page size and however many vehicles each customer has. A per-customer
+ * vehicle query (N+1) shows up here as a count that grows with the page.
+ */
+@SpringJUnitConfig(CustomerServiceQueryCountTest.Config.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CustomerServiceQueryCountTest {
+
+    private static final int CUSTOMERS = 30;
+    private static final long STATEMENTS_PER_PAGE = 3;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomersRepository customersRepository;
+
+    @Autowired
+    private VehiclesRepository vehiclesRepository;
+
+    @BeforeAll
+    void seedCustomers() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+        List<Vehicles> vehicles = new ArrayList<>();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            Customers customer = new Customers("Customer " + i, String.format("98765%05d", i),
+                    "customer" + i + "@example.com", "12 MG Road", null, "Bengaluru", "Karnataka");
+            customer.setCreatedAt(start.plusMinutes(i));
+            customer.setUpdatedAt(start.plusMinutes(i));
+            customer = customersRepository.save(customer);
+            for (int v = 0; v < 1 + i % 3; v++) {
+                Vehicles vehicle = new Vehicles(customer, "KA01AB" + String.format("%02d%02d", i, v), "Honda",
+                        "City", 2020, null, null, "PETROL", "MANUAL");
+                vehicle.setCreatedAt(start);
+                vehicle.setUpdatedAt(start);
+                vehicles.add(vehicle);
+            }
+        }
+        vehiclesRepository.saveAll(vehicles);
+    }
+
+    @Test
+    void listingPageIssuesConstantStatementCount() {
+        assertThat(statementsForPage(5)).isEqualTo(STATEMENTS_PER_PAGE);
+        assertThat(statementsForPage(20)).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void filteredListingPageIssuesConstantStatementCount() {
+        long before = StatementCountingInspector.currentCount();
+        Page<CustomerResponse> page = customerService.getAllCustomers(
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt")),
+                "customer", null, "honda", null, null, null);
+        long statements = StatementCountingInspector.currentCount() - before;
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(statements).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    private long statementsForPage(int size) {
+        long before = StatementCountingInspector.currentCount();
+        Page<CustomerResponse> page = customerService.getAllCustomers(
+                PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt")),
+                null, null, null, null, null, null);
+        long statements = StatementCountingInspector.currentCount() - before;
+
+        assertThat(page.getContent()).hasSize(size);
+        assertThat(page.getTotalElements()).isEqualTo(CUSTOMERS);
+        assertThat(page.getContent()).allSatisfy(customer -> assertThat(customer.getVehicles()).isNotEmpty());
+        return statements;
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaRepositories(
+            basePackageClasses = {CustomersRepository.class, VehiclesRepository.class, DailySnapshotsRepository.class},
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {CustomersRepository.class, VehiclesRepository.class, DailySnapshotsRepository.class}))
+    static class Config {
+
+        @Bean(destroyMethod = "close")
+        HikariDataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:customer-query-count-" + UUID.randomUUID()
+                    + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;NON_KEYWORDS=YEAR");
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                    ConfigurableListableBeanFactory beanFactory) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setManagedTypes(PersistenceManagedTypes.of(Customers.class.getName(), Vehicles.class.getName(),
+                    DailySnapshots.class.getName()));
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            Map<String, Object> jpaProperties = new HashMap<>();
+            jpaProperties.put(AvailableSettings.HBM2DDL_AUTO, "create");
+            jpaProperties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
+            // Same inspector as application.yml, counting statements per thread
+            jpaProperties.put(AvailableSettings.STATEMENT_INSPECTOR, StatementCountingInspector.class.getName());
+            factory.setJpaPropertyMap(jpaProperties);
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        CustomerService customerService() {
+            return new CustomerService();
+        }
+
+        @Bean
+        DailySnapshotService dailySnapshotService() {
+            return new DailySnapshotService();
+        }
+
+        // Only used by the customer write paths
+
+        @Bean
+        GarageRepository garageRepository() {
+            return Mockito.mock(GarageRepository.class);
+        }
+
+        @Bean
+        UserRepository userRepository() {
+            return Mockito.mock(UserRepository.class);
+        }
+
+        @Bean
+        AddressesRepository addressesRepository() {
+            return Mockito.mock(AddressesRepository.class);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.garage.backend.financial.repository;
+
+import com.garage.backend.config.MigrationOwnedTablesSchemaManagementTool;
+import com.garage.backend.customer.entity.Customers;
+import com.garage.backend.financial.entity.DailyFinancialSummary;
+import com.garage.backend.financial.entity.Transactions;
+import com.garage.backend.jobcard.entity.JobCards;
+import com.garage.backend.shared.enums.Enums;
+import com.garage.backend.staff.entity.Staff;
+import com.garage.backend.vehicle.entity.Vehicles;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Index usage of the "today" and date-range transaction queries
+ *
+ * The schema is built the way the application builds it on a fresh
+ * database: ddl-auto creates the entity tables except the migration-owned
+ * ones, then the V3 migration creates transactions and its indexes on top of
+ * them. The SQL that the
+ * repository methods actually issue is then run through EXPLAIN on H2 in
+ * PostgreSQL mode, and each plan must read the intended index instead of
+ * scanning the table.
+ *
+ * Migrations after V3 rely on PostgreSQL-only features (partial and GiST
+ * trigram indexes) and are not applied here.
+ */
+@SpringJUnitConfig(TransactionsIndexUsageTest.Config.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionsIndexUsageTest {
+
+    private static final int DAYS = 30;
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    void seedTransactions() {
+        List<Transactions> transactions = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int day = 0; day < DAYS; day++) {
+            for (int i = 0; i < 5; i++) {
+                Transactions income = new Transactions(new BigDecimal("1200.00"), "Service " + day + "-" + i,
+                        null, null, null, Enums.PaymentMethod.CASH, null);
+                Transactions expense = new Transactions(new BigDecimal("300.00"), "Supplies " + day + "-" + i,
+                        Enums.ExpenseCategory.UTILITIES, "Vendor", null, null, null);
+                for (Transactions transaction : List.of(income, expense)) {
+                    transaction.setTransactionDate(now.minusDays(day).minusMinutes(i));
+                    transaction.setTransactionDateOnly(now.minusDays(day).toLocalDate());
+                    transactions.add(transaction);
+                }
+            }
+        }
+        transactionsRepository.saveAll(transactions);
+    }
+
+    @BeforeEach
+    void clearRecordedStatements() {
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void todayIncomeReadsTypeStatusDateIndex() throws SQLException {
+        assertThat(transactionsRepository.getTodayIncome()).isEqualByComparingTo("6000.00");
+
+        assertThat(explainLastStatement()).containsIgnoringCase("idx_transactions_type_status_date")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void todayExpensesReadTypeStatusDateIndex() throws SQLException {
+        assertThat(transactionsRepository.getTodayExpenses()).isEqualByComparingTo("1500.00");
+
+        assertThat(explainLastStatement()).containsIgnoringCase("idx_transactions_type_status_date")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void dateRangeReadsDateIndex() throws SQLException {
+        LocalDateTime start = LocalDate.now().minusDays(6).atStartOfDay();
+        LocalDateTime end = LocalDateTime.now();
+        assertThat(transactionsRepository.getRecentTransactions(start, end)).hasSize(70);
+
+        assertThat(explainLastStatement(start, end)).containsIgnoringCase("idx_transactions_date_id")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    /**
+     * EXPLAIN the last statement the repository issued, with the same parameters bound
+     * @param parameters statement parameters in order
+     * @return String query plan
+     */
+    private String explainLastStatement(Object... parameters) throws SQLException {
+        List<String> statements = RecordingStatementInspector.STATEMENTS;
+        assertThat(statements).isNotEmpty();
+        String sql = statements.get(statements.size() - 1);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                explain.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                StringBuilder text = new StringBuilder();
+                while (plan.next()) {
+                    text.append(plan.getString(1)).append('\n');
+                }
+                return text.toString();
+            }
+        }
+    }
+
+    /**
+     * Keeps the SQL of every statement Hibernate prepares, in order
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaAuditing
+    @EnableJpaRepositories(
+            basePackageClasses = TransactionsRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = TransactionsRepository.class))
+    static class Config {
+
+        @Bean(destroyMethod = "close")
+        HikariDataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:transactions-index-" + UUID.randomUUID()
+                    + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR");
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                    ConfigurableListableBeanFactory beanFactory) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setManagedTypes(PersistenceManagedTypes.of(Transactions.class.getName(),
+                    DailyFinancialSummary.class.getName(), Customers.class.getName(), Vehicles.class.getName(),
+                    JobCards.class.getName(), Staff.class.getName()));
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            Map<String, Object> jpaProperties = new HashMap<>();
+            jpaProperties.put(AvailableSettings.HBM2DDL_AUTO, "update");
+            jpaProperties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
+            // Same table naming and schema ownership as the application
+            jpaProperties.put(AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                    CamelCaseToUnderscoresNamingStrategy.class.getName());
+            jpaProperties.put(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName());
+            jpaProperties.put(AvailableSettings.SCHEMA_MANAGEMENT_TOOL,
+                    MigrationOwnedTablesSchemaManagementTool.class.getName());
+            jpaProperties.put(AvailableSettings.STATEMENT_INSPECTOR, RecordingStatementInspector.class.getName());
+            factory.setJpaPropertyMap(jpaProperties);
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        /**
+         * Migrates after Hibernate, as SchemaMigrationConfig does, stopping at V3
+         */
+        @Bean
+        @DependsOn("entityManagerFactory")
+        MigrateResult schemaMigrations(DataSource dataSource) throws SQLException {
+            try (Connection connection = dataSource.getConnection();
+                 ResultSet tables = connection.getMetaData().getTables(null, null, "transactions", null)) {
+                assertThat(tables.next()).as("transactions created by ddl-auto instead of V3").isFalse();
+            }
+
+            MigrateResult result = Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("classpath:db/migration")
+                    .baselineOnMigrate(true)
+                    .baselineVersion("2")
+                    .target("3")
+                    .load()
+                    .migrate();
+            assertThat(result.migrationsExecuted).isEqualTo(1);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.garage.backend.shared.service;
+
+import com.garage.backend.shared.entity.EmailOutbox;
+import com.garage.backend.shared.repository.EmailOutboxRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox delivery against an in-process SMTP server
+ *
+ * EmailOutboxService runs with its real repository on in-memory H2 and a
+ * JavaMailSenderImpl pointed at SmtpStub, a minimal SMTP server on a local
+ * port that records every message it accepts. Recipients on the bounce
+ * domain are refused at RCPT TO, which JavaMail reports as a per-message
+ * failure.
+ */
+@SpringJUnitConfig(EmailOutboxServiceTest.Config.class)
+@TestPropertySource(properties = {
+        "spring.mail.username=noreply@pitstop.example",
+        "spring.mail.outbox.workers=2",
+        "spring.mail.outbox.messages-per-connection=2",
+        "spring.mail.outbox.initial-backoff-seconds=60",
+        "spring.mail.outbox.retention-hours=24"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmailOutboxServiceTest {
+
+    private static final String BOUNCE_DOMAIN = "@bounce.example";
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    @Autowired
+    private SmtpStub smtpServer;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void clearOutbox() {
+        outboxRepository.deleteAll();
+        smtpServer.received.clear();
+    }
+
+    @Test
+    void enqueuedEmailsAreDeliveredAfterCommit() {
+        for (int i = 0; i < 5; i++) {
+            emailOutboxService.enqueue("owner" + i + "@garage.example", "PitStop Verification Code",
+                    "Your PitStop verification code is 12" + i + "4", LocalDateTime.now().plusMinutes(2));
+        }
+
+        // Delivery is triggered by the commit alone; no poll runs in this context
+        awaitTrue(() -> countWithStatus(EmailOutbox.STATUS_SENT) == 5);
+
+        assertThat(smtpServer.received).hasSize(5);
+        assertThat(smtpServer.received).extracting(message -> message.recipient)
+                .containsExactlyInAnyOrder("owner0@garage.example", "owner1@garage.example",
+                        "owner2@garage.example", "owner3@garage.example", "owner4@garage.example");
+        assertThat(smtpServer.received).allSatisfy(message -> {
+            assertThat(message.sender).isEqualTo("noreply@pitstop.example");
+            assertThat(message.data).contains("Subject: PitStop Verification Code")
+                    .contains("Your PitStop verification code is 12");
+        });
+        assertThat(outboxRepository.findAll()).allSatisfy(email -> {
+            assertThat(email.getSentAt()).isNotNull();
+            assertThat(email.getAttempts()).isZero();
+        });
+    }
+
+    @Test
+    void refusedRecipientIsRetriedWithBackoff() {
+        EmailOutbox delivered = emailOutboxService.enqueue("owner@garage.example", "Subject", "Body", null);
+        EmailOutbox refused = emailOutboxService.enqueue("owner" + BOUNCE_DOMAIN, "Subject", "Body", null);
+
+        awaitTrue(() -> outboxRepository.findById(refused.getId()).orElseThrow().getAttempts() == 1);
+
+        EmailOutbox retry = outboxRepository.findById(refused.getId()).orElseThrow();
+        assertThat(retry.getStatus()).isEqualTo(EmailOutbox.STATUS_PENDING);
+        assertThat(retry.getLastError()).isNotBlank();
+        assertThat(retry.getClaimedAt()).isNull();
+        assertThat(retry.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+
+        awaitTrue(() -> countWithStatus(EmailOutbox.STATUS_SENT) == 1);
+        assertThat(outboxRepository.findById(delivered.getId()).orElseThrow().getStatus())
+                .isEqualTo(EmailOutbox.STATUS_SENT);
+        assertThat(smtpServer.received).extracting(message -> message.recipient)
+                .containsExactly("owner@garage.example");
+
+        // Not due yet, so a poll leaves it alone
+        emailOutboxService.dispatchDue();
+        assertThat(outboxRepository.findById(refused.getId()).orElseThrow().getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void purgeDeletesOnlyFinishedEmailsPastRetention() {
+        UUID oldSent = saveWithStatus(EmailOutbox.STATUS_SENT, 30);
+        UUID oldFailed = saveWithStatus(EmailOutbox.STATUS_FAILED, 30);
+        UUID oldExpired = saveWithStatus(EmailOutbox.STATUS_EXPIRED, 30);
+        UUID oldPending = saveWithStatus(EmailOutbox.STATUS_PENDING, 30);
+        UUID recentSent = saveWithStatus(EmailOutbox.STATUS_SENT, 1);
+
+        assertThat(emailOutboxService.purgeFinished()).isEqualTo(3);
+
+        assertThat(outboxRepository.findAllById(List.of(oldSent, oldFailed, oldExpired))).isEmpty();
+        assertThat(outboxRepository.findAllById(List.of(oldPending, recentSent))).hasSize(2);
+    }
+
+    private UUID saveWithStatus(String status, int hoursAgo) {
+        EmailOutbox email = new EmailOutbox("owner@garage.example", "Subject", "Body", null);
+        email.setStatus(status);
+        // Not due, so a dispatch still running from an earlier test leaves it alone
+        email.setNextAttemptAt(LocalDateTime.now().plusDays(1));
+        UUID id = outboxRepository.save(email).getId();
+        new JdbcTemplate(dataSource).update("UPDATE email_outbox SET created_at = ? WHERE id = ?",
+                LocalDateTime.now().minusHours(hoursAgo), id);
+        return id;
+    }
+
+    private long countWithStatus(String status) {
+        return outboxRepository.findAll().stream().filter(email -> status.equals(email.getStatus())).count();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Plain SMTP server on a local port; no TLS or authentication
+     */
+    static class SmtpStub implements AutoCloseable {
+
+        final List<ReceivedMessage> received = new CopyOnWriteArrayList<>();
+        private final ServerSocket serverSocket;
+
+        SmtpStub() throws IOException {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread acceptor = new Thread(this::acceptConnections, "smtp-stub");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void acceptConnections() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    Thread session = new Thread(() -> serve(socket), "smtp-stub-session");
+                    session.setDaemon(true);
+                    session.start();
+                } catch (IOException e) {
+                    // Closed
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(
+                         new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+                reply(out, "220 localhost SMTP stub");
+                String sender = null;
+                String recipient = null;
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.toUpperCase();
+                    if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+                        reply(out, "250 localhost");
+                    } else if (command.startsWith("MAIL FROM:")) {
+                        sender = address(line);
+                        reply(out, "250 OK");
+                    } else if (command.startsWith("RCPT TO:")) {
+                        if (address(line).endsWith(BOUNCE_DOMAIN)) {
+                            reply(out, "550 No such user");
+                        } else {
+                            recipient = address(line);
+                            reply(out, "250 OK");
+                        }
+                    } else if (command.equals("DATA")) {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        StringBuilder data = new StringBuilder();
+                        while (!(line = in.readLine()).equals(".")) {
+                            data.append(line).append('\n');
+                        }
+                        received.add(new ReceivedMessage(sender, recipient, data.toString()));
+                        reply(out, "250 OK");
+                    } else if (command.equals("RSET")) {
+                        sender = null;
+                        recipient = null;
+                        reply(out, "250 OK");
+                    } else if (command.equals("QUIT")) {
+                        reply(out, "221 Bye");
+                        return;
+                    } else {
+                        reply(out, "250 OK");
+                    }
+                }
+            } catch (IOException e) {
+                // Client went away
+            }
+        }
+
+        private static String address(String line) {
+            return line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+        }
+
+        private static void reply(PrintWriter out, String line) {
+            out.print(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+
+    static class ReceivedMessage {
+        final String sender;
+        final String recipient;
+        final String data;
+
+        ReceivedMessage(String sender, String recipient, String data) {
+            this.sender = sender;
+            this.recipient = recipient;
+            this.data = data;
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaAuditing
+    @EnableJpaRepositories(
+            basePackageClasses = EmailOutboxRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = EmailOutboxRepository.class))
+    static class Config {
+
+        @Bean(destroyMethod = "close")
+        HikariDataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:email-outbox-" + UUID.randomUUID()
+                    + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;NON_KEYWORDS=YEAR");
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                    ConfigurableListableBeanFactory beanFactory) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setManagedTypes(PersistenceManagedTypes.of(EmailOutbox.class.getName()));
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            Map<String, Object> jpaProperties = new HashMap<>();
+            jpaProperties.put(AvailableSettings.HBM2DDL_AUTO, "create");
+            jpaProperties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
+            factory.setJpaPropertyMap(jpaProperties);
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean(destroyMethod = "close")
+        SmtpStub smtpServer() throws IOException {
+            return new SmtpStub();
+        }
+
+        @Bean
+        JavaMailSenderImpl mailSender(SmtpStub smtpServer) {
+            JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+            mailSender.setHost(InetAddress.getLoopbackAddress().getHostAddress());
+            mailSender.setPort(smtpServer.getPort());
+            Properties properties = new Properties();
+            properties.put("mail.smtp.timeout", "5000");
+            properties.put("mail.smtp.connectiontimeout", "5000");
+            mailSender.setJavaMailProperties(properties);
+            return mailSender;
+        }
+
+        @Bean
+        EmailOutboxService emailOutboxService() {
+            return new EmailOutboxService();
+        }
+    }
+}